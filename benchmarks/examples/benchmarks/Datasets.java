@@ -0,0 +1,32 @@
+package examples.benchmarks;
+
+import examples.ga.SplitMix64;
+
+/**
+ * Synthetic regression data for the benchmarks.
+ */
+final class Datasets {
+
+    private Datasets() {
+    }
+
+    /**
+     * produces size {x, y} rows around the line y = 300 + 21x, with x in
+     * [20, 60) like the sample data of the agents
+     *
+     */
+    static double[][] line(int size, long seed) {
+        SplitMix64 random = new SplitMix64(seed);
+        double[][] dataset = new double[size][2];
+
+        for (int i = 0; i < size; i++) {
+            double x = 20.0 + random.nextDouble() * 40.0;
+
+            dataset[i][0] = x;
+            dataset[i][1] = 300.0 + 21.0 * x + (random.nextDouble() - 0.5) * 100.0;
+        }
+
+        return dataset;
+    }
+
+}
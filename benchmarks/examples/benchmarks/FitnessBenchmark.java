@@ -0,0 +1,163 @@
+package examples.benchmarks;
+
+import examples.ga.BitGenome;
+import examples.ga.Crossovers;
+import examples.ga.EquationFitness;
+import examples.ga.FitnessEvaluator;
+import examples.ga.GeneticAlgorithm;
+import examples.ga.Genomes;
+import examples.ga.Mutations;
+import examples.ga.ParallelEvaluator;
+import examples.ga.SLRFitness;
+import examples.ga.SequentialEvaluator;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluation of a whole population (populationFitness) for each genome
+ * type: the equation (int[]), Maxones (bits) and the regression line
+ * (double[]).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class FitnessBenchmark {
+
+    /**
+     * population size and evaluation strategy, shared by every genome type
+     */
+    @State(Scope.Benchmark)
+    public abstract static class EvaluationState {
+
+        @Param({"100", "10000"})
+        int populationSize;
+
+        @Param({"sequential", "parallel"})
+        String evaluator;
+
+        FitnessEvaluator createEvaluator() {
+            return "parallel".equals(evaluator) ?
+                new ParallelEvaluator() : new SequentialEvaluator();
+        }
+
+        void close(FitnessEvaluator e) {
+            if (e instanceof ParallelEvaluator) {
+                ((ParallelEvaluator) e).close();
+            }
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class EquationState extends EvaluationState {
+
+        GeneticAlgorithm<int[]> ga;
+        FitnessEvaluator e;
+
+        @Setup
+        public void setup() {
+            e = createEvaluator();
+            ga = new GeneticAlgorithm<>(populationSize, 0, Genomes.ints(5, 10),
+                new EquationFitness(), Crossovers.onePointInt(),
+                Mutations.randomResetInt(10));
+            ga.setEvaluator(e);
+            ga.setSeed(42);
+            ga.generatePopulation();
+        }
+
+        @TearDown
+        public void tearDown() {
+            close(e);
+        }
+
+    }
+
+    @State(Scope.Benchmark)
+    public static class MaxonesState extends EvaluationState {
+
+        @Param({"10", "1000", "100000"})
+        int genomeLength;
+
+        GeneticAlgorithm<BitGenome> ga;
+        FitnessEvaluator e;
+
+        @Setup
+        public void setup() {
+            e = createEvaluator();
+            ga = new GeneticAlgorithm<>(populationSize, 0, Genomes.bits(genomeLength),
+                BitGenome::cardinality, Crossovers.onePointBits(), Mutations.bitFlip());
+            ga.setEvaluator(e);
+            ga.setSeed(42);
+            ga.generatePopulation();
+        }
+
+        @TearDown
+        public void tearDown() {
+            close(e);
+        }
+
+    }
+
+    /**
+     * SLRFitness reduces the dataset to its means when it is created, so
+     * the size of the dataset does not matter here (see RegressionBenchmark
+     * for the per row work)
+     *
+     */
+    @State(Scope.Benchmark)
+    public static class SLRState extends EvaluationState {
+
+        private static final int DATASET_SIZE = 1000;
+
+        GeneticAlgorithm<double[]> ga;
+        FitnessEvaluator e;
+
+        @Setup
+        public void setup() {
+            e = createEvaluator();
+            ga = new GeneticAlgorithm<>(populationSize, 0, Genomes.doubles(2, 0, 300),
+                new SLRFitness(Datasets.line(DATASET_SIZE, 42)),
+                Crossovers.onePointDouble(), Mutations.randomResetDouble(0, 300));
+            ga.setEvaluator(e);
+            ga.setSeed(42);
+            ga.generatePopulation();
+        }
+
+        @TearDown
+        public void tearDown() {
+            close(e);
+        }
+
+    }
+
+    @Benchmark
+    public double equation(EquationState state) {
+        return state.ga.populationFitness();
+    }
+
+    @Benchmark
+    public double maxones(MaxonesState state) {
+        return state.ga.populationFitness();
+    }
+
+    @Benchmark
+    public double slr(SLRState state) {
+        return state.ga.populationFitness();
+    }
+
+}
@@ -0,0 +1,52 @@
+package examples.benchmarks;
+
+import examples.optim.GradientDescent;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * GradientDescent.calculate with its per iteration report, written to a
+ * discarding stream. The rows are queued on the benchmark thread and
+ * formatted by the telemetry thread, except those still queued when the
+ * run ends, which calculate() formats before returning: with 30
+ * iterations that is the whole table.
+ *
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class GradientDescentBenchmark {
+
+    @Param({"30", "1000"})
+    int nIter;
+
+    private GradientDescent gd;
+
+    @Setup
+    public void setup() {
+        gd = new GradientDescent(0.1, nIter, new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @Benchmark
+    public void calculate() {
+        gd.calculate();
+    }
+
+}
@@ -0,0 +1,110 @@
+package examples.benchmarks;
+
+import examples.ga.BitGenome;
+import examples.ga.CrossoverOperator;
+import examples.ga.Crossovers;
+import examples.ga.Genomes;
+import examples.ga.MutationOperator;
+import examples.ga.Mutations;
+import examples.ga.SplitMix64;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * One point crossover of a pair and mutation of one child, for each
+ * genome type.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class OperatorBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    int genomeLength;
+
+    private SplitMix64 random;
+
+    private int[][] ints;
+    private double[][] doubles;
+    private BitGenome[] bits;
+
+    private final CrossoverOperator<int[]> intCrossover = Crossovers.onePointInt();
+    private final CrossoverOperator<double[]> doubleCrossover = Crossovers.onePointDouble();
+    private final CrossoverOperator<BitGenome> bitCrossover = Crossovers.onePointBits();
+    private final MutationOperator<int[]> intMutation = Mutations.randomResetInt(10);
+    private final MutationOperator<double[]> doubleMutation = Mutations.randomResetDouble(0, 300);
+    private final MutationOperator<BitGenome> bitMutation = Mutations.bitFlip();
+
+    @Setup
+    public void setup() {
+        random = new SplitMix64(42);
+        // two parents and two children of each type
+        ints = new int[4][];
+        doubles = new double[4][];
+        bits = new BitGenome[4];
+
+        for (int i = 0; i < 4; i++) {
+            ints[i] = Genomes.ints(genomeLength, 10).create(random);
+            doubles[i] = Genomes.doubles(genomeLength, 0, 300).create(random);
+            bits[i] = Genomes.bits(genomeLength).create(random);
+        }
+    }
+
+    @Benchmark
+    public int[] crossoverInts() {
+        intCrossover.crossover(ints[0], ints[1], ints[2], ints[3], random);
+
+        return ints[2];
+    }
+
+    @Benchmark
+    public double[] crossoverDoubles() {
+        doubleCrossover.crossover(doubles[0], doubles[1], doubles[2], doubles[3], random);
+
+        return doubles[2];
+    }
+
+    @Benchmark
+    public BitGenome crossoverBits() {
+        bitCrossover.crossover(bits[0], bits[1], bits[2], bits[3], random);
+
+        return bits[2];
+    }
+
+    @Benchmark
+    public int[] mutateInts() {
+        intMutation.mutate(ints[2], random);
+
+        return ints[2];
+    }
+
+    @Benchmark
+    public double[] mutateDoubles() {
+        doubleMutation.mutate(doubles[2], random);
+
+        return doubles[2];
+    }
+
+    @Benchmark
+    public BitGenome mutateBits() {
+        bitMutation.mutate(bits[2], random);
+
+        return bits[2];
+    }
+
+}
@@ -0,0 +1,35 @@
+package examples.benchmarks;
+
+import examples.ga.AliasSelection;
+import examples.ga.RankSelection;
+import examples.ga.RouletteSelection;
+import examples.ga.SelectionOperator;
+import examples.ga.StochasticUniversalSampling;
+import examples.ga.TournamentSelection;
+
+/**
+ * Maps the names used in @Param fields to GA operators.
+ */
+final class Operators {
+
+    private Operators() {
+    }
+
+    static SelectionOperator selection(String name) {
+        switch (name) {
+            case "roulette":
+                return new RouletteSelection();
+            case "alias":
+                return new AliasSelection();
+            case "tournament":
+                return new TournamentSelection(3);
+            case "rank":
+                return new RankSelection();
+            case "sus":
+                return new StochasticUniversalSampling();
+            default:
+                throw new IllegalArgumentException("unknown selection: " + name);
+        }
+    }
+
+}
@@ -0,0 +1,123 @@
+package examples.benchmarks;
+
+import examples.regression.LinearRegression;
+import examples.regression.MultipleLinearRegression;
+import examples.regression.ParallelRegression;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Training of the simple linear regression used by SLRAgent.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RegressionBenchmark {
+
+    // MultipleLinearRegression and ParallelRegression step by the mean
+    // gradient of a batch, so 0.001 (the rate of train()) diverges on x in
+    // [20, 60)
+    private static final double MINI_BATCH_ALPHA = 1e-4;
+
+    @Param({"9", "1000", "100000"})
+    int datasetSize;
+
+    @Param({"100"})
+    int epochs;
+
+    private double[][] dataset;
+    private double[] x;
+    private double[] y;
+    private ParallelRegression parallel;
+    private LinearRegression fitted;
+    private double[] predictions;
+
+    @Setup
+    public void setup() {
+        dataset = Datasets.line(datasetSize, 42);
+        x = examples.regression.Datasets.column(dataset, 0);
+        y = examples.regression.Datasets.column(dataset, 1);
+        parallel = new ParallelRegression(Runtime.getRuntime().availableProcessors(), 4096);
+        fitted = new LinearRegression();
+        fitted.train(dataset);
+        predictions = new double[datasetSize];
+
+        // timing a diverging run would measure overflow and NaN arithmetic
+        LinearRegression ln = miniBatch();
+        MultipleLinearRegression regression = parallelTrain();
+
+        if (!Double.isFinite(ln.getBeta_1()) || !Double.isFinite(regression.getWeight(0))) {
+            throw new IllegalStateException("gradient descent diverges with alpha " +
+                MINI_BATCH_ALPHA);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        parallel.close();
+    }
+
+    @Benchmark
+    public LinearRegression leastSquares() {
+        LinearRegression ln = new LinearRegression();
+        ln.train(dataset);
+
+        return ln;
+    }
+
+    @Benchmark
+    public LinearRegression miniBatch() {
+        LinearRegression ln = new LinearRegression();
+        ln.train(x, y, MINI_BATCH_ALPHA, epochs, 256);
+
+        return ln;
+    }
+
+    @Benchmark
+    public LinearRegression train() {
+        LinearRegression ln = new LinearRegression();
+        ln.train(dataset, 0.001, epochs);
+
+        return ln;
+    }
+
+    @Benchmark
+    public LinearRegression parallelLeastSquares() {
+        LinearRegression ln = new LinearRegression();
+        ln.fit(parallel.statistics(x, y));
+
+        return ln;
+    }
+
+    @Benchmark
+    public MultipleLinearRegression parallelTrain() {
+        MultipleLinearRegression regression = new MultipleLinearRegression(1);
+        parallel.train(regression, new double[][] { x }, y, MINI_BATCH_ALPHA, epochs);
+
+        return regression;
+    }
+
+    @Benchmark
+    public double[] predictBatch() {
+        fitted.predict(x, predictions, datasetSize);
+
+        return predictions;
+    }
+
+}
@@ -0,0 +1,61 @@
+package examples.benchmarks;
+
+import examples.ga.SelectionOperator;
+import examples.ga.SplitMix64;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to choose the parents of a whole generation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SelectionBenchmark {
+
+    @Param({"100", "10000", "1000000"})
+    int populationSize;
+
+    @Param({"roulette", "alias", "tournament", "rank", "sus"})
+    String selection;
+
+    private SelectionOperator operator;
+    private double[] fitness;
+    private int[] chosen;
+    private SplitMix64 random;
+
+    @Setup
+    public void setup() {
+        random = new SplitMix64(42);
+        operator = Operators.selection(selection);
+        fitness = new double[populationSize];
+        chosen = new int[populationSize];
+
+        for (int i = 0; i < populationSize; i++) {
+            fitness[i] = random.nextDouble() * 100.0;
+        }
+    }
+
+    @Benchmark
+    public int[] select() {
+        operator.select(fitness, chosen, random);
+
+        return chosen;
+    }
+
+}
@@ -0,0 +1,15 @@
+/**
+ * JMH benchmarks of the hot paths of the agents: GA selection, crossover,
+ * mutation and population evaluation for each genome type, linear
+ * regression training and gradient descent.
+ *
+ * The benchmarks live in their own source root, next to src, so the agents
+ * do not depend on JMH. benchmarks/run.sh compiles src and benchmarks with
+ * the JMH annotation processor, which generates the harness, and starts
+ * org.openjdk.jmh.Main with its arguments, e.g.
+ * "benchmarks/run.sh Selection"; it lists the jars it needs.
+ * Population size, genome length and dataset size are @Param fields and
+ * can be changed from the command line with -p name=value.
+ *
+ */
+package examples.benchmarks;
@@ -0,0 +1,44 @@
+#!/bin/sh
+#
+# Builds and runs the JMH benchmarks of benchmarks/ against src/.
+#
+# Needs a JDK 17 or later and these jars from Maven Central, in
+# benchmarks/lib or in the directory named by $JMH_LIB:
+#
+#   org.openjdk.jmh:jmh-core:1.37
+#   org.openjdk.jmh:jmh-generator-annprocess:1.37
+#   net.sf.jopt-simple:jopt-simple:5.0.4
+#   org.apache.commons:commons-math3:3.6.1
+#
+# The arguments are passed to JMH, e.g.
+#
+#   benchmarks/run.sh SelectionBenchmark -p populationSize=1000
+#   benchmarks/run.sh -l
+#
+# The agents need JADE and are not benchmarked, so examples.behaviours is
+# left out of the build.
+
+set -e
+
+root=$(cd "$(dirname "$0")/.." && pwd)
+lib=${JMH_LIB:-$root/benchmarks/lib}
+out=$root/benchmarks/target/classes
+
+cp=$(find "$lib" -name '*.jar' | tr '\n' ':')
+
+if [ -z "$cp" ]; then
+    echo "no jars in $lib, see $0" >&2
+    exit 1
+fi
+
+rm -rf "$out"
+mkdir -p "$out"
+
+javac -d "$out" $(find "$root/src" -name '*.java' ! -path '*/behaviours/*')
+
+# the JMH annotation processor generates the benchmark harness and the
+# META-INF/BenchmarkList that org.openjdk.jmh.Main reads
+javac -cp "$out:$cp" -processor org.openjdk.jmh.generators.BenchmarkProcessor \
+    -d "$out" $(find "$root/benchmarks" -name '*.java')
+
+exec java -cp "$out:$cp" org.openjdk.jmh.Main "$@"
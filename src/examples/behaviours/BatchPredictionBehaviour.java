@@ -0,0 +1,187 @@
+package examples.behaviours;
+
+import examples.regression.LinearRegression;
+
+import jade.core.Agent;
+import jade.core.behaviours.CyclicBehaviour;
+import jade.lang.acl.ACLMessage;
+import jade.lang.acl.MessageTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+/**
+ * Serves predictions of a linear regression. Every action drains all the
+ * pending REQUEST messages with ontology "slr-prediction", each holding
+ * one or more x separated by whitespace, scores all their values with a
+ * single batch predict and answers each request with an INFORM
+ * "y=y1,y2,..." followed by the description of the model.
+ *
+ * The buffers of a batch are reused, so at steady state only the message
+ * texts are allocated. A request that does not parse gets NOT_UNDERSTOOD;
+ * if there is no model yet every request of the batch gets a FAILURE.
+ *
+ */
+public abstract class BatchPredictionBehaviour extends CyclicBehaviour {
+
+	static final String ONTOLOGY = "slr-prediction";
+
+	private final MessageTemplate requests = MessageTemplate.and(
+		MessageTemplate.MatchPerformative(ACLMessage.REQUEST),
+		MessageTemplate.MatchOntology(ONTOLOGY));
+
+	private final ArrayList<ACLMessage> batch = new ArrayList<>();
+	// values of batch.get(k) are x[start[k]..start[k + 1])
+	private int[] start = new int[16];
+	private double[] x = new double[256];
+	private double[] y = new double[256];
+	private final StringBuilder content = new StringBuilder();
+
+	public BatchPredictionBehaviour(Agent agent) {
+		super(agent);
+	}
+
+	/**
+	 * produces the model to predict with, or throws an
+	 * IllegalArgumentException if there is none yet; it must never produce
+	 * a model that has not been fitted, whose predictions would look valid
+	 *
+	 */
+	protected abstract LinearRegression model();
+
+	/**
+	 * appended to every answer after the predictions
+	 */
+	protected String describe(LinearRegression model) {
+		return " beta_0=" + model.getBeta_0() + " beta_1=" + model.getBeta_1();
+	}
+
+	public void action() {
+		int n = 0;
+		ACLMessage msg;
+
+		batch.clear();
+
+		while ((msg = myAgent.receive(requests)) != null) {
+			int parsed = parse(msg.getContent(), n);
+
+			if (parsed < 0) {
+				ACLMessage reply = msg.createReply();
+				reply.setPerformative(ACLMessage.NOT_UNDERSTOOD);
+				reply.setContent("expected numbers: " + msg.getContent());
+				myAgent.send(reply);
+				continue;
+			}
+
+			if (start.length < batch.size() + 2) {
+				start = Arrays.copyOf(start, start.length * 2);
+			}
+
+			start[batch.size()] = n;
+			batch.add(msg);
+			n += parsed;
+		}
+
+		if (batch.isEmpty()) {
+			block();
+			return;
+		}
+
+		start[batch.size()] = n;
+		answer(n);
+	}
+
+	/**
+	 * parses the numbers of text into x from index n on and produces how
+	 * many there were, or -1 if text does not parse
+	 *
+	 */
+	private int parse(String text, int n) {
+		if (text == null) {
+			return -1;
+		}
+
+		int count = 0;
+		int i = 0;
+		int length = text.length();
+
+		while (i < length) {
+			while (i < length && Character.isWhitespace(text.charAt(i))) {
+				i++;
+			}
+
+			int from = i;
+
+			while (i < length && !Character.isWhitespace(text.charAt(i))) {
+				i++;
+			}
+
+			if (from == i) {
+				break;
+			}
+
+			if (x.length <= n + count) {
+				x = Arrays.copyOf(x, x.length * 2);
+			}
+
+			try {
+				x[n + count] = Double.parseDouble(text.substring(from, i));
+			} catch (NumberFormatException e) {
+				return -1;
+			}
+
+			count++;
+		}
+
+		return count == 0 ? -1 : count;
+	}
+
+	private void answer(int n) {
+		LinearRegression model;
+
+		try {
+			model = model();
+		} catch (IllegalArgumentException e) {
+			for (ACLMessage request : batch) {
+				ACLMessage reply = request.createReply();
+				reply.setPerformative(ACLMessage.FAILURE);
+				reply.setContent(e.getMessage());
+				myAgent.send(reply);
+			}
+
+			batch.clear();
+			return;
+		}
+
+		if (y.length < n) {
+			y = new double[x.length];
+		}
+
+		model.predict(x, y, n);
+
+		String description = describe(model);
+
+		for (int k = 0; k < batch.size(); k++) {
+			content.setLength(0);
+			content.append("y=");
+
+			for (int i = start[k]; i < start[k + 1]; i++) {
+				if (i > start[k]) {
+					content.append(',');
+				}
+
+				content.append(y[i]);
+			}
+
+			content.append(description);
+
+			ACLMessage reply = batch.get(k).createReply();
+			reply.setPerformative(ACLMessage.INFORM);
+			reply.setContent(content.toString());
+			myAgent.send(reply);
+		}
+
+		batch.clear();
+	}
+
+}
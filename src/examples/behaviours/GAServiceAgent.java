@@ -0,0 +1,287 @@
+package examples.behaviours;
+
+import examples.ga.FitnessCache;
+import examples.ga.Problem;
+import examples.ga.Problems;
+import examples.ga.SplitMix64;
+import examples.ga.StoppingCriteria;
+
+import jade.core.Agent;
+import jade.core.behaviours.CyclicBehaviour;
+import jade.lang.acl.ACLMessage;
+import jade.lang.acl.MessageTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Long-lived optimisation service. Accepts GA jobs as REQUEST messages,
+ * runs them concurrently on a bounded pool of worker threads and answers
+ * each one with an INFORM holding the best individual found.
+ *
+ * Request content: space separated key=value pairs, e.g.
+ *
+ *   problem=maxones:1000 populationSize=100 generations=1000 seed=42
+ *
+ * problem is a Problems id and is required, the rest are optional.
+ * cache=capacity memoises the fitness of problems with a discrete genome
+ * space. The reply content is "fitness=... genes=..." with the genes in
+ * the text form of the problem's codec, plus "cacheHitRate=..." when a
+ * cache was used. A request that does not parse gets
+ * NOT_UNDERSTOOD, one that finds the queue full gets REFUSE, and a job
+ * that fails gets FAILURE.
+ *
+ * The requests come from other agents, so jobs are bounded: at most
+ * 10000 individuals, 1000000 generations, Maxones genomes of 10000 bits
+ * and a cache of 1000000 entries, and a job stops after 60 s whatever its
+ * number of generations. Problems on dataset files ("slr:file") are not
+ * served, as the service would open any path it is sent.
+ *
+ * Arguments: [workers queueCapacity], by default one worker per processor
+ * and a queue of 100 jobs.
+ *
+ */
+public class GAServiceAgent extends Agent {
+
+    static final String ONTOLOGY = "ga-job";
+    // internal wake-up call posted by the workers when a job is done
+    private static final String DONE_ONTOLOGY = "ga-job-done";
+
+    private static final int DEFAULT_QUEUE_CAPACITY = 100;
+    private static final int DEFAULT_POPULATION_SIZE = 100;
+    private static final int DEFAULT_GENERATIONS = 1000;
+    private static final int MAX_POPULATION_SIZE = 10_000;
+    private static final int MAX_GENERATIONS = 1_000_000;
+    private static final int MAX_GENOME_LENGTH = 10_000;
+    private static final int MAX_CACHE_CAPACITY = 1_000_000;
+    private static final long JOB_TIME_LIMIT_MILLIS = 60_000;
+
+    private ThreadPoolExecutor executor;
+    private final ConcurrentLinkedQueue<ACLMessage> replies = new ConcurrentLinkedQueue<>();
+
+    protected void setup() {
+        System.out.println("Agent " + getLocalName() + " started.");
+
+        int workers = Runtime.getRuntime().availableProcessors();
+        int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+
+        Object[] args = getArguments();
+        try {
+            if (args != null && args.length > 0) {
+                workers = Integer.parseInt((String) args[0]);
+            }
+            if (args != null && args.length > 1) {
+                queueCapacity = Integer.parseInt((String) args[1]);
+            }
+        } catch (NumberFormatException e) {
+            System.err.println("Error: " + e);
+            doDelete();
+            return;
+        }
+
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity));
+
+        addBehaviour(new ServiceBehaviour());
+    }
+
+    protected void takeDown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * a parsed job request
+     */
+    private static class Job {
+
+        final Problem<?> problem;
+        final int populationSize;
+        final int generations;
+        final Long seed;
+        final int cacheCapacity;
+
+        Job(String content) {
+            Map<String, String> fields = new HashMap<>();
+
+            for (String pair : content.trim().split("\\s+")) {
+                int eq = pair.indexOf('=');
+
+                if (eq <= 0) {
+                    throw new IllegalArgumentException("expected key=value: " + pair);
+                }
+
+                fields.put(pair.substring(0, eq), pair.substring(eq + 1));
+            }
+
+            if (!fields.containsKey("problem")) {
+                throw new IllegalArgumentException("missing problem");
+            }
+
+            checkProblem(fields.get("problem"));
+            problem = Problems.byName(fields.get("problem"));
+            populationSize = intField(fields, "populationSize", DEFAULT_POPULATION_SIZE,
+                1, MAX_POPULATION_SIZE);
+            generations = intField(fields, "generations", DEFAULT_GENERATIONS,
+                0, MAX_GENERATIONS);
+            seed = fields.containsKey("seed") ? Long.valueOf(fields.get("seed")) : null;
+            cacheCapacity = intField(fields, "cache", 0, 0, MAX_CACHE_CAPACITY);
+
+            if (cacheCapacity > 0 && !problem.isCacheable()) {
+                throw new IllegalArgumentException(problem.getName() + " cannot be cached");
+            }
+        }
+
+        /**
+         * rejects the problems a remote agent must not ask for: datasets
+         * read from local files and genomes too big to allocate
+         *
+         */
+        private static void checkProblem(String id) {
+            int colon = id.indexOf(':');
+
+            if (colon < 0) {
+                return;
+            }
+
+            String name = id.substring(0, colon);
+
+            if (name.equals(Problems.SLR)) {
+                throw new IllegalArgumentException("dataset files are not served: " + id);
+            }
+
+            if (name.equals(Problems.MAXONES)) {
+                checkRange("maxones length", Integer.parseInt(id.substring(colon + 1)),
+                    1, MAX_GENOME_LENGTH);
+            }
+        }
+
+        private static int intField(Map<String, String> fields, String key, int defaultValue,
+                int min, int max) {
+            if (!fields.containsKey(key)) {
+                return defaultValue;
+            }
+
+            return checkRange(key, Integer.parseInt(fields.get(key)), min, max);
+        }
+
+        private static int checkRange(String key, int value, int min, int max) {
+            if (value < min || value > max) {
+                throw new IllegalArgumentException(key + " must be in [" + min + ", " +
+                    max + "]: " + value);
+            }
+
+            return value;
+        }
+
+        /**
+         * runs the GA and produces the reply content
+         */
+        String run() {
+            return run(problem);
+        }
+
+        private <G> String run(Problem<G> p) {
+            var ga = cacheCapacity > 0 ?
+                p.createCachedGA(populationSize, generations, cacheCapacity) :
+                p.createGA(populationSize, generations);
+
+            if (seed != null) {
+                ga.setRandom(new SplitMix64(seed));
+            }
+
+            ga.addStoppingCriterion(StoppingCriteria.wallClock(JOB_TIME_LIMIT_MILLIS));
+
+            var best = ga.runGA();
+
+            String result = "fitness=" + best.getFitness() + " genes=" +
+                p.getCodec().encode(best.getGenes());
+
+            if (ga.getFitnessFunction() instanceof FitnessCache) {
+                result += " cacheHitRate=" +
+                    ((FitnessCache<?>) ga.getFitnessFunction()).getHitRate();
+            }
+
+            return result;
+        }
+
+    }
+
+    private class ServiceBehaviour extends CyclicBehaviour {
+
+        private final MessageTemplate requests = MessageTemplate.and(
+            MessageTemplate.MatchPerformative(ACLMessage.REQUEST),
+            MessageTemplate.MatchOntology(ONTOLOGY));
+        private final MessageTemplate wakeUps = MessageTemplate.MatchOntology(DONE_ONTOLOGY);
+
+        public void action() {
+            boolean worked = false;
+            ACLMessage msg;
+
+            while ((msg = myAgent.receive(requests)) != null) {
+                submit(msg);
+                worked = true;
+            }
+
+            while (myAgent.receive(wakeUps) != null) {
+                worked = true;
+            }
+
+            while ((msg = replies.poll()) != null) {
+                myAgent.send(msg);
+                worked = true;
+            }
+
+            if (!worked) {
+                block();
+            }
+        }
+
+        private void submit(ACLMessage request) {
+            ACLMessage reply = request.createReply();
+            Job job;
+
+            try {
+                job = new Job(request.getContent());
+            } catch (RuntimeException e) {
+                reply.setPerformative(ACLMessage.NOT_UNDERSTOOD);
+                reply.setContent(String.valueOf(e.getMessage()));
+                myAgent.send(reply);
+                return;
+            }
+
+            try {
+                executor.execute(() -> {
+                    try {
+                        reply.setContent(job.run());
+                        reply.setPerformative(ACLMessage.INFORM);
+                    } catch (Throwable e) {
+                        // errors too (e.g. OutOfMemoryError): the requester
+                        // always gets an answer and the worker lives on
+                        reply.setContent(String.valueOf(e));
+                        reply.setPerformative(ACLMessage.FAILURE);
+                    }
+
+                    replies.add(reply);
+
+                    // only the agent thread sends, wake it up
+                    ACLMessage wakeUp = new ACLMessage(ACLMessage.INFORM);
+                    wakeUp.setOntology(DONE_ONTOLOGY);
+                    myAgent.postMessage(wakeUp);
+                });
+            } catch (RejectedExecutionException e) {
+                reply.setPerformative(ACLMessage.REFUSE);
+                reply.setContent("queue full");
+                myAgent.send(reply);
+            }
+        }
+
+    }
+
+}
@@ -1,89 +1,82 @@
 package examples.behaviours;
 
+import examples.metrics.Metrics;
+import examples.optim.GradientDescent;
+import examples.optim.UpdateRules;
+
 import jade.core.Agent;
 import jade.core.behaviours.OneShotBehaviour;
 
+import javax.management.JMException;
+
+/**
+ * Minimizes f(x) = x^2 with gradient descent. Arguments:
+ * [method [stepSize [tolerance]]], where method is an UpdateRules name
+ * ("sgd" by default), stepSize defaults to 0.1 and a positive tolerance
+ * stops the run once |f'(x)| falls to it.
+ *
+ */
 public class GradientDescentAgent extends Agent {
 
+	private static final int N_ITER = 30;
+
+	private GradientDescent gd;
+	private Metrics metrics;
+
 	protected void setup() {
 		System.out.println("Agent " + getLocalName() + " started.");
-		addBehaviour(new GDOneShotBehaviour());
-	}
 
-	/**
-	 * Implements Gradient Descent algorithm for function f(x) = x^2
-	 * with bounds [-1, 1].
-	 *
-     */
-	private class GradientDescent {
-		private double stepSize;
-		private int nIter;
-
-		public GradientDescent(double stepSize, int nIter) {
-			this.stepSize = stepSize;
-			this.nIter = nIter;
-		}
+		String method = "sgd";
+		double stepSize = 0.1;
+		double tolerance = 0.0;
 
-		/**
-		 * double -> double
-		 *
-		 * produces the square of parameter x
-		 * this is f(x) = x^2
-		 *
-		 */
-		private double objective(double x) {
-			return x * x;
-		}
+		Object[] args = getArguments();
+		try {
+			if (args != null && args.length > 0) {
+				method = (String) args[0];
+			}
+			if (args != null && args.length > 1) {
+				stepSize = Double.parseDouble((String) args[1]);
+			}
+			if (args != null && args.length > 2) {
+				tolerance = Double.parseDouble((String) args[2]);
+			}
 
-		/**
-  		 * double -> double
-		 *
-		 * produces the result of multiplying x by 2
-		 * this is the derivative of f(x)
-		 * f'(x) = 2x
-		 *
-		 */
-		private double derivative(double x) {
-			return 2 * x;
+			gd = new GradientDescent(UpdateRules.byName(method, stepSize), N_ITER,
+				System.out);
+		} catch (IllegalArgumentException e) {
+			System.err.println("Error: " + e);
+			doDelete();
+			return;
 		}
 
-		/**
-		 * shows the result obtained from each iteration of the
-		 * gradient descent algorithm
-		 *
-		 */
-		public void calculate() {
-			double leftBound = -1.0;
-			double rightBound = 1.0;
-
-			// initialize to a random number in the range [-1, 1]
-			double solution = leftBound + (Math.random() *
-				(rightBound - leftBound));
-
-			System.out.println("------------------------------");
-			System.out.printf("%-8s | %-8s | %s\n", "n_iter", "x value", "f(x)");
-			System.out.println("------------------------------");
-			for (int i = 0; i < this.nIter; i++) {
-				var gradient = derivative(solution);
-				// update solution value
-				solution = solution - (gradient * this.stepSize);
-				var result = objective(solution);
-				// show the new solution
-				System.out.printf("%-8d | %-8.5f | %.5f\n", i, solution, result);
-			}
+		if (tolerance > 0.0) {
+			gd.setTolerance(tolerance);
 		}
 
+		metrics = new Metrics(getLocalName());
+		gd.setMetrics(metrics);
+
+		try {
+			metrics.publish();
+		} catch (JMException e) {
+			System.err.println("Error: " + e);
+		}
+		addBehaviour(new GDOneShotBehaviour());
 	}
 
 	private class GDOneShotBehaviour extends OneShotBehaviour {
 
 		public void action() {
-			GradientDescent gd = new GradientDescent(0.1, 30);
+			var minimum = gd.calculate();
 
-			gd.calculate();
+			System.out.println("Minimum " + minimum.getValue() + " after " +
+				minimum.getIterations() + " iterations");
+			System.out.println("Metrics: " + metrics.summary());
 		}
 
 		public int onEnd() {
+			metrics.close();
 			myAgent.doDelete();
 			return super.onEnd();
 		}
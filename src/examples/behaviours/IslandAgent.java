@@ -0,0 +1,198 @@
+package examples.behaviours;
+
+import examples.ga.GeneticAlgorithm;
+import examples.ga.MigrationTopology;
+import examples.ga.Problem;
+import examples.ga.Problems;
+import examples.ga.RandomStreams;
+
+import jade.core.AID;
+import jade.core.Agent;
+import jade.lang.acl.ACLMessage;
+import jade.lang.acl.MessageTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * One island of an island-model GA. Every island evolves its own
+ * population; every migrationInterval generations it sends copies of its
+ * best individuals to its neighbours in an ACL message and takes in the
+ * migrants it has received, which replace its worst individuals.
+ *
+ * Arguments: problem topology islands [populationSize generations
+ * migrationInterval migrants seed], where problem is a Problems id
+ * ("equation", "slr", "maxones:1000"), topology is ring or full and islands
+ * is the comma separated list of the local names of all the islands,
+ * including this one. The islands can live on different containers of the
+ * same platform. With a seed every island gets its own reproducible
+ * random stream. E.g.
+ *
+ *   i1:examples.behaviours.IslandAgent(maxones:1000 ring i1,i2,i3)
+ *
+ */
+public class IslandAgent extends Agent {
+
+    static final String MIGRATION_ONTOLOGY = "ga-migration";
+
+    private static final int DEFAULT_POPULATION_SIZE = 100;
+    private static final int DEFAULT_GENERATIONS = 1000;
+    private static final int DEFAULT_MIGRATION_INTERVAL = 20;
+    private static final int DEFAULT_MIGRANTS = 2;
+
+    protected void setup() {
+        System.out.println("Agent " + getLocalName() + " started.");
+
+        Object[] args = getArguments();
+        if (args == null || args.length < 3) {
+            System.err.println("Usage: problem topology islands [populationSize " +
+                "generations migrationInterval migrants seed]");
+            doDelete();
+            return;
+        }
+
+        try {
+            Problem<?> problem = Problems.byName((String) args[0]);
+            var topology = MigrationTopology.valueOf(((String) args[1]).toUpperCase());
+            List<String> islands = Arrays.asList(((String) args[2]).split(","));
+            int populationSize = intArgument(args, 3, DEFAULT_POPULATION_SIZE);
+            int generations = intArgument(args, 4, DEFAULT_GENERATIONS);
+            int interval = intArgument(args, 5, DEFAULT_MIGRATION_INTERVAL);
+            int migrants = intArgument(args, 6, DEFAULT_MIGRANTS);
+            int self = islands.indexOf(getLocalName());
+
+            if (self < 0) {
+                throw new IllegalArgumentException(getLocalName() + " is not in the islands list");
+            }
+
+            var behaviour = createBehaviour(problem, populationSize, generations,
+                interval, migrants);
+
+            if (args.length > 7) {
+                long seed = Long.parseLong((String) args[7]);
+                behaviour.getGA().setRandom(new RandomStreams(seed, islands.size()).stream(self));
+            }
+
+            for (int i : topology.neighbours(self, islands.size())) {
+                behaviour.neighbours.add(new AID(islands.get(i), AID.ISLOCALNAME));
+            }
+
+            addBehaviour(behaviour);
+        } catch (RuntimeException e) {
+            // bad numbers or topology, unknown problem, unreadable dataset
+            System.err.println("Error: " + e);
+            doDelete();
+        }
+    }
+
+    private static int intArgument(Object[] args, int index, int defaultValue) {
+        return args.length > index ? Integer.parseInt((String) args[index]) : defaultValue;
+    }
+
+    private <G> IslandBehaviour<G> createBehaviour(Problem<G> problem, int populationSize,
+            int generations, int interval, int migrants) {
+        return new IslandBehaviour<>(problem, problem.createGA(populationSize, generations),
+            interval, migrants);
+    }
+
+    /**
+     * runs migrationInterval generations per action, then migrates
+     */
+    private class IslandBehaviour<G> extends TimeSlicedGABehaviour<G> {
+
+        private final Problem<G> problem;
+        private final List<AID> neighbours = new ArrayList<>();
+        private final MessageTemplate template;
+        private final int migrants;
+
+        IslandBehaviour(Problem<G> problem, GeneticAlgorithm<G> ga, int interval,
+                int migrants) {
+            super(IslandAgent.this, ga, interval);
+            this.problem = problem;
+            this.migrants = migrants;
+            this.template = MessageTemplate.and(
+                MessageTemplate.MatchOntology(MIGRATION_ONTOLOGY),
+                MessageTemplate.MatchConversationId(problem.getName()));
+        }
+
+        protected void afterSlice() {
+            emigrate();
+            immigrate();
+        }
+
+        private void emigrate() {
+            if (neighbours.isEmpty() || migrants <= 0) {
+                return;
+            }
+
+            var codec = problem.getCodec();
+            StringBuilder content = new StringBuilder();
+
+            for (G genes : getGA().getBestGenomes(migrants)) {
+                content.append(codec.encode(genes)).append('\n');
+            }
+
+            ACLMessage msg = new ACLMessage(ACLMessage.INFORM);
+            msg.setOntology(MIGRATION_ONTOLOGY);
+            msg.setConversationId(problem.getName());
+            msg.setContent(content.toString());
+
+            for (AID neighbour : neighbours) {
+                msg.addReceiver(neighbour);
+            }
+
+            myAgent.send(msg);
+        }
+
+        /**
+         * takes in every migrant received so far, without waiting for more;
+         * migrants of another shape, e.g. from an island started with
+         * another genome length, are dropped
+         *
+         */
+        private void immigrate() {
+            var codec = problem.getCodec();
+            ACLMessage msg;
+
+            while ((msg = myAgent.receive(template)) != null) {
+                List<G> genomes = new ArrayList<>();
+
+                try {
+                    for (String line : msg.getContent().split("\n")) {
+                        if (!line.isEmpty()) {
+                            genomes.add(codec.decode(line));
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    System.err.println("Error: bad migrants from " +
+                        msg.getSender().getLocalName() + ": " + e);
+                    continue;
+                }
+
+                int dropped = genomes.size() - getGA().immigrate(genomes);
+
+                if (dropped > 0) {
+                    System.err.println("Error: dropped " + dropped + " migrants from " +
+                        msg.getSender().getLocalName() + " that do not fit " +
+                        problem.getName());
+                }
+            }
+        }
+
+        public int onEnd() {
+            var ga = getGA();
+            var best = ga.getBest();
+
+            System.out.println("Island " + myAgent.getLocalName() + " (" +
+                problem.getName() + ")");
+            System.out.println("Best fitness: " + ga.getBestGlobalFitness());
+            System.out.println("Actual best: " + problem.format(best.getGenes()));
+            System.out.println("Actual best fitness: " + best.getFitness());
+            myAgent.doDelete();
+            return super.onEnd();
+        }
+
+    }
+
+}
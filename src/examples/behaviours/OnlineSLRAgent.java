@@ -0,0 +1,222 @@
+package examples.behaviours;
+
+import examples.regression.LinearRegression;
+import examples.regression.RegressionStatistics;
+
+import jade.core.Agent;
+import jade.core.behaviours.CyclicBehaviour;
+import jade.core.behaviours.TickerBehaviour;
+import jade.lang.acl.ACLMessage;
+import jade.lang.acl.MessageTemplate;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Simple linear regression learnt online. Observations update the
+ * regression statistics in O(1) and predictions refit the line from them
+ * in O(1), so neither gets slower as the data grows and nothing is
+ * retrained from scratch.
+ *
+ * Observations arrive as INFORM messages with ontology "slr-observation"
+ * whose content is one or more "x,y" pairs separated by whitespace, and
+ * optionally from a text file of "x,y" lines that is followed like
+ * tail -f. Predictions are served in batches by a
+ * BatchPredictionBehaviour: a REQUEST with ontology "slr-prediction" and
+ * one or more x as content is answered with an INFORM
+ * "y=... beta_0=... beta_1=... n=...", or a FAILURE while fewer than two
+ * distinct x have been seen.
+ *
+ * Arguments: [file [periodMillis]], the file to follow and how often to
+ * look for new lines (500 ms by default).
+ *
+ */
+public class OnlineSLRAgent extends Agent {
+
+	static final String OBSERVATION_ONTOLOGY = "slr-observation";
+
+	private static final long DEFAULT_PERIOD = 500;
+
+	private final RegressionStatistics statistics = new RegressionStatistics();
+	private final LinearRegression model = new LinearRegression();
+	// statistics changed since the model was last fitted; true at first as
+	// the model has never been fitted, so that predicting before two points
+	// have been observed fails in fit() instead of using the zero line
+	private boolean stale = true;
+
+	protected void setup() {
+		System.out.println("Agent " + getLocalName() + " started.");
+
+		Object[] args = getArguments();
+		if (args != null && args.length > 0) {
+			long period = DEFAULT_PERIOD;
+
+			try {
+				if (args.length > 1) {
+					period = Long.parseLong((String) args[1]);
+				}
+
+				addBehaviour(new TailBehaviour(this, (String) args[0], period));
+			} catch (NumberFormatException | IOException e) {
+				System.err.println("Error: " + e);
+				doDelete();
+				return;
+			}
+		}
+
+		addBehaviour(new ObservationBehaviour());
+		addBehaviour(new PredictionBehaviour());
+	}
+
+	/**
+	 * adds the "x,y" pair of text to the statistics
+	 */
+	private void observe(String text) {
+		int comma = text.indexOf(',');
+
+		if (comma < 0) {
+			throw new NumberFormatException("expected x,y: " + text);
+		}
+
+		statistics.add(Double.parseDouble(text.substring(0, comma).strip()),
+			Double.parseDouble(text.substring(comma + 1).strip()));
+		stale = true;
+	}
+
+	private class ObservationBehaviour extends CyclicBehaviour {
+
+		private final MessageTemplate observations = MessageTemplate.and(
+			MessageTemplate.MatchPerformative(ACLMessage.INFORM),
+			MessageTemplate.MatchOntology(OBSERVATION_ONTOLOGY));
+
+		public void action() {
+			ACLMessage msg = myAgent.receive(observations);
+
+			if (msg == null) {
+				block();
+				return;
+			}
+
+			do {
+				try {
+					for (String pair : msg.getContent().strip().split("\\s+")) {
+						if (!pair.isEmpty()) {
+							observe(pair);
+						}
+					}
+				} catch (NumberFormatException e) {
+					ACLMessage reply = msg.createReply();
+					reply.setPerformative(ACLMessage.NOT_UNDERSTOOD);
+					reply.setContent(String.valueOf(e.getMessage()));
+					myAgent.send(reply);
+				}
+			} while ((msg = myAgent.receive(observations)) != null);
+		}
+
+	}
+
+	private class PredictionBehaviour extends BatchPredictionBehaviour {
+
+		PredictionBehaviour() {
+			super(OnlineSLRAgent.this);
+		}
+
+		protected LinearRegression model() {
+			if (statistics.getCount() < 2) {
+				throw new IllegalArgumentException("no model yet: " +
+					statistics.getCount() + " observations");
+			}
+
+			if (stale) {
+				model.fit(statistics);
+				stale = false;
+			}
+
+			return model;
+		}
+
+		protected String describe(LinearRegression model) {
+			return super.describe(model) + " n=" + statistics.getCount();
+		}
+
+	}
+
+	/**
+	 * follows a file, observing the lines appended to it. A line is only
+	 * read once it is complete; if the file shrinks it is read again from
+	 * the start
+	 *
+	 */
+	private class TailBehaviour extends TickerBehaviour {
+
+		private final String path;
+		private final RandomAccessFile file;
+		private final byte[] buffer = new byte[8192];
+		// bytes of an incomplete last line
+		private final StringBuilder partial = new StringBuilder();
+		private long position;
+
+		TailBehaviour(Agent agent, String path, long period) throws IOException {
+			super(agent, period);
+			this.path = path;
+			this.file = new RandomAccessFile(path, "r");
+		}
+
+		protected void onTick() {
+			try {
+				if (file.length() < position) {
+					position = 0;
+					partial.setLength(0);
+				}
+
+				file.seek(position);
+
+				int read;
+
+				while ((read = file.read(buffer)) > 0) {
+					position += read;
+					partial.append(new String(buffer, 0, read, StandardCharsets.ISO_8859_1));
+					consumeLines();
+				}
+			} catch (IOException e) {
+				System.err.println("Error: " + path + ": " + e);
+				stop();
+			}
+		}
+
+		private void consumeLines() {
+			int start = 0;
+			int newline;
+
+			while ((newline = partial.indexOf("\n", start)) >= 0) {
+				String line = partial.substring(start, newline).strip();
+				start = newline + 1;
+
+				if (line.isEmpty() || line.startsWith("#")) {
+					continue;
+				}
+
+				try {
+					observe(line);
+				} catch (NumberFormatException e) {
+					System.err.println("Error: " + path + ": " + e.getMessage());
+				}
+			}
+
+			partial.delete(0, start);
+		}
+
+		public int onEnd() {
+			try {
+				file.close();
+			} catch (IOException e) {
+				System.err.println("Error: " + e);
+			}
+
+			return super.onEnd();
+		}
+
+	}
+
+}
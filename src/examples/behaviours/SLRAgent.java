@@ -1,11 +1,37 @@
 package examples.behaviours;
 
+import examples.metrics.Metrics;
+import examples.metrics.PhaseTimer;
+import examples.optim.StoppingCriteria;
+import examples.regression.ColumnarDataset;
+import examples.regression.Datasets;
+import examples.regression.LinearRegression;
+
 import jade.core.Agent;
 import jade.core.behaviours.OneShotBehaviour;
 
+import java.io.IOException;
+import java.nio.file.Path;
+
+import javax.management.JMException;
+
+/**
+ * Fits a simple linear regression to the sample data and predicts a
+ * value. Arguments: x [mode [file]], where mode is "ls" (closed form least
+ * squares, the default) or "gd" (gradient descent) and file a
+ * ColumnarDataset file to fit instead of the sample data.
+ *
+ */
 public class SLRAgent extends Agent {
 
+	// gradient descent stops once an epoch changes the mean squared error
+	// by less than this fraction
+	private static final double TOLERANCE = 1e-12;
+
 	private double predictValue;
+	private boolean gradientDescent;
+	private ColumnarDataset dataset;
+	private Metrics metrics;
 
 	protected void setup() {
 		System.out.println("Agent " + getLocalName() + " started.");
@@ -25,94 +51,84 @@ public class SLRAgent extends Agent {
 			System.exit(0);
 		}
 
-		addBehaviour(new SLRBehaviour());
-	}
-
-	private class LinearRegression {
-
-		private double beta_0;
-		private double beta_1;
+		if (args.length > 1) {
+			var mode = (String) args[1];
 
-		private static final int X_POSITION = 0;
-		private static final int Y_POSITION = 1;
-
-		public LinearRegression() {
-			beta_0 = 0.0;
-			beta_1 = 0.0;
-		}
-
-		public double predict(double x) {
-			return (beta_1 * x) + beta_0;
-		}
-
-		private double error(double y_i, double y_p) {
-			return y_i - y_p;
-		}
-
-		private double partialDerivB1(double x, double y, int n) {
-			var e = error(y, predict(x));
-
-			return ((double) (-2) / n) * x * e;
+			if (mode.equals("gd")) {
+				gradientDescent = true;
+			} else if (!mode.equals("ls")) {
+				System.err.println("Error: unknown mode " + mode + ", expected ls or gd");
+				doDelete();
+				System.exit(0);
+			}
 		}
 
-		private double partialDerivB0(double x, double y, int n) {
-			var e = error(y, predict(x));
-	
-			return ((double) (-2) / n) * e;
-		} 
-
-		private void gradient_descent(double[][] dataset, double alpha, int epoch) {
-			int N = dataset.length;
-
-			for (int i = 0; i < epoch; i++) {
-				for (int j = 0; j < dataset.length; j++) {
-					var x_i = dataset[j][X_POSITION];
-					var y_i = dataset[j][Y_POSITION];
-
-					beta_0 -= (alpha * partialDerivB0(x_i, y_i, N));
-					beta_1 -= (alpha * partialDerivB1(x_i, y_i, N));
-				}
+		if (args.length > 2) {
+			try {
+				dataset = ColumnarDataset.map(Path.of((String) args[2]));
+			} catch (IOException e) {
+				System.err.println("Error: " + e);
+				doDelete();
+				System.exit(0);
 			}
-		}
 
-		public double getBeta_0() {
-			return beta_0;
+			// x is column 0 and y column 1, a line needs two points
+			if (dataset.columns() < 2 || dataset.rows() < 2) {
+				System.err.println("Error: " + args[2] + ": expected at least 2 columns " +
+					"and 2 rows, got " + dataset.columns() + " and " + dataset.rows());
+				doDelete();
+				System.exit(0);
+			}
+		} else {
+			dataset = ColumnarDataset.fromRows(Datasets.sample());
 		}
 
-		public double getBeta_1() {
-			return beta_1;
-		}
+		metrics = new Metrics(getLocalName());
 
-		public void train(double[][] dataset, double alpha, int epoch) {
-			gradient_descent(dataset, alpha, epoch);
+		try {
+			metrics.publish();
+		} catch (JMException e) {
+			System.err.println("Error: " + e);
 		}
 
+		addBehaviour(new SLRBehaviour());
 	}
 
 	private class SLRBehaviour extends OneShotBehaviour {
 
-		private final double [][] dataset = {
-			{23, 651},  {26, 762},  {30, 856},
-			{34, 1063}, {43, 1190}, {48, 1298}, 
-			{52, 1421}, {57, 1440}, {58, 1518}
-    	};
-
 		public void action() {
 			LinearRegression ln = new LinearRegression();
-			double learning_rate = 0.001;
-			int num_epoch = 13100;
+			PhaseTimer train = metrics.timer("train");
+			PhaseTimer predict = metrics.timer("predict");
+			long t = train.start();
+
+			if (gradientDescent) {
+				double learning_rate = 0.001;
+				int num_epoch = 13100;
+
+				int epochs = ln.train(dataset.toRows(), learning_rate, num_epoch,
+					StoppingCriteria.valueDelta(TOLERANCE));
+
+				System.out.println("Epochs: " + epochs);
+			} else {
+				ln.train(dataset);
+			}
 
-			ln.train(dataset, learning_rate, num_epoch);
+			t = train.stop(t);
+			double predicted = ln.predict(predictValue);
+			predict.stop(t);
 
 			System.out.println("Regression equation:");
 			System.out.println("y_p = " + ln.getBeta_0() + " + " +
 				ln.getBeta_1() + " * X");
 
 			System.out.println("Predicted value of " + predictValue + ": " +
-				ln.predict(predictValue));
+				predicted);
+			System.out.println("Metrics: " + metrics.summary());
 		}
 
 		public int onEnd() {
+			metrics.close();
 			myAgent.doDelete();
 			return super.onEnd();
 		}
@@ -0,0 +1,129 @@
+package examples.behaviours;
+
+import examples.ga.Checkpointer;
+import examples.ga.GeneticAlgorithm;
+import examples.metrics.Metrics;
+
+import jade.core.Agent;
+import jade.core.behaviours.SimpleBehaviour;
+
+import java.io.IOException;
+
+import javax.management.JMException;
+
+/**
+ * Runs a GA cooperatively: every action() advances it by a fixed batch of
+ * generations and returns, so the agent's scheduler can run its other
+ * behaviours (e.g. message handling) between batches and several GA
+ * agents can share a container. The state of the run is kept in the GA
+ * between calls. Override onEnd() to use the result.
+ *
+ * The phases of the run are measured in a Metrics named after the agent,
+ * published over JMX and JFR while the run lasts; onEnd() prints their
+ * summary, so overrides should end by calling it.
+ *
+ * With a Checkpointer the run resumes from its checkpoint, when there is
+ * one, instead of starting over.
+ *
+ */
+public class TimeSlicedGABehaviour<G> extends SimpleBehaviour {
+
+    private final GeneticAlgorithm<G> ga;
+    private final int generationsPerAction;
+    private final Metrics metrics;
+    private Checkpointer<G> checkpointer;
+    private boolean initialized = false;
+
+    public TimeSlicedGABehaviour(Agent a, GeneticAlgorithm<G> ga, int generationsPerAction) {
+        super(a);
+
+        if (generationsPerAction < 1) {
+            throw new IllegalArgumentException("generationsPerAction must be positive: " +
+                generationsPerAction);
+        }
+
+        this.ga = ga;
+        this.generationsPerAction = generationsPerAction;
+        this.metrics = new Metrics(a.getLocalName());
+        ga.setMetrics(metrics);
+    }
+
+    public GeneticAlgorithm<G> getGA() {
+        return ga;
+    }
+
+    public Metrics getMetrics() {
+        return metrics;
+    }
+
+    public Checkpointer<G> getCheckpointer() {
+        return checkpointer;
+    }
+
+    public void setCheckpointer(Checkpointer<G> checkpointer) {
+        this.checkpointer = checkpointer;
+        ga.setCheckpointer(checkpointer);
+    }
+
+    public void action() {
+        if (!initialized) {
+            try {
+                metrics.publish();
+            } catch (JMException e) {
+                System.err.println("Error: " + e);
+            }
+
+            if (!resume()) {
+                ga.initialize();
+            }
+
+            initialized = true;
+        }
+
+        for (int i = 0; i < generationsPerAction && !ga.isFinished(); i++) {
+            ga.step();
+        }
+
+        afterSlice();
+    }
+
+    private boolean resume() {
+        if (checkpointer == null) {
+            return false;
+        }
+
+        try {
+            if (checkpointer.restore(ga)) {
+                System.out.println("Resumed from " + checkpointer.getFile() +
+                    " at generation " + ga.getGeneration());
+                return true;
+            }
+        } catch (IOException e) {
+            System.err.println("Error: " + e);
+        }
+
+        return false;
+    }
+
+    /**
+     * called after every batch of generations, does nothing by default
+     */
+    protected void afterSlice() {
+    }
+
+    public boolean done() {
+        return initialized && ga.isFinished();
+    }
+
+    public int onEnd() {
+        System.out.println("Metrics: " + metrics.summary());
+        metrics.close();
+
+        if (checkpointer != null) {
+            checkpointer.close();
+        }
+
+        return super.onEnd();
+    }
+
+}
@@ -0,0 +1,107 @@
+package examples.ga;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Fitness proportionate selection using Walker's alias method (Vose's
+ * construction). Building the table is O(n) and every draw is O(1): one
+ * uniform column plus one biased coin flip, which pays off when many
+ * individuals are drawn from big populations.
+ *
+ * Negative fitness is treated as zero; if nobody has positive fitness the
+ * choice is uniform. The tables are reused between calls, so an instance
+ * must not be shared by concurrently running GAs.
+ *
+ */
+public class AliasSelection implements SelectionOperator {
+
+    private double[] probability = new double[0];
+    private int[] alias = new int[0];
+    private int[] small = new int[0];
+    private int[] large = new int[0];
+
+    public void select(double[] fitness, int[] chosen, RandomGenerator random) {
+        int n = fitness.length;
+        int count = chosen.length;
+
+        if (!buildTable(fitness, n)) {
+            for (int i = 0; i < count; i++) {
+                chosen[i] = random.nextInt(n);
+            }
+
+            return;
+        }
+
+        for (int i = 0; i < count; i++) {
+            int column = random.nextInt(n);
+
+            chosen[i] = random.nextDouble() < probability[column] ? column : alias[column];
+        }
+    }
+
+    /**
+     * fills the probability and alias tables, produces false when the
+     * total fitness is not positive
+     *
+     */
+    private boolean buildTable(double[] fitness, int n) {
+        if (probability.length < n) {
+            probability = new double[n];
+            alias = new int[n];
+            small = new int[n];
+            large = new int[n];
+        }
+
+        double total = 0.0;
+
+        for (int i = 0; i < n; i++) {
+            if (fitness[i] > 0.0) {
+                total += fitness[i];
+            }
+        }
+
+        if (total <= 0.0) {
+            return false;
+        }
+
+        int smallCount = 0;
+        int largeCount = 0;
+
+        for (int i = 0; i < n; i++) {
+            // scaled so the average column holds exactly 1.0
+            probability[i] = fitness[i] > 0.0 ? fitness[i] * n / total : 0.0;
+
+            if (probability[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+
+            alias[less] = more;
+            probability[more] = (probability[more] + probability[less]) - 1.0;
+
+            if (probability[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+
+        // whatever is left is 1.0 up to rounding error
+        while (largeCount > 0) {
+            probability[large[--largeCount]] = 1.0;
+        }
+
+        while (smallCount > 0) {
+            probability[small[--smallCount]] = 1.0;
+        }
+
+        return true;
+    }
+
+}
@@ -0,0 +1,172 @@
+package examples.ga;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Fixed length bit string packed 64 bits per long. Bit i lives in word
+ * i / 64 at position i % 64; the unused high bits of the last word are
+ * always zero, so whole words can be counted and compared directly.
+ *
+ */
+public final class BitGenome {
+
+    private static final int ADDRESS_BITS = 6;
+    private static final int WORD_SIZE = 1 << ADDRESS_BITS;
+
+    private final int length;
+    private final long[] words;
+
+    public BitGenome(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("length must not be negative: " + length);
+        }
+
+        this.length = length;
+        this.words = new long[wordCount(length)];
+    }
+
+    private BitGenome(int length, long[] words) {
+        this.length = length;
+        this.words = words;
+    }
+
+    /**
+     * produces a genome where every bit is 0 or 1 with the same probability
+     */
+    public static BitGenome random(int length, RandomGenerator random) {
+        BitGenome genome = new BitGenome(length);
+
+        for (int i = 0; i < genome.words.length; i++) {
+            genome.words[i] = random.nextLong();
+        }
+
+        genome.clearUnusedBits();
+
+        return genome;
+    }
+
+    /**
+     * parses a string of '0' and '1', the first character being bit 0
+     */
+    public static BitGenome parse(String bits) {
+        BitGenome genome = new BitGenome(bits.length());
+
+        for (int i = 0; i < bits.length(); i++) {
+            if (bits.charAt(i) == '1') {
+                genome.set(i);
+            }
+        }
+
+        return genome;
+    }
+
+    static int wordCount(int length) {
+        return (length + WORD_SIZE - 1) >>> ADDRESS_BITS;
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /**
+     * the backing words, changes are seen by the genome
+     */
+    long[] words() {
+        return words;
+    }
+
+    public boolean get(int index) {
+        return (words[index >>> ADDRESS_BITS] & (1L << index)) != 0;
+    }
+
+    public void set(int index) {
+        words[index >>> ADDRESS_BITS] |= 1L << index;
+    }
+
+    public void clear(int index) {
+        words[index >>> ADDRESS_BITS] &= ~(1L << index);
+    }
+
+    public void flip(int index) {
+        words[index >>> ADDRESS_BITS] ^= 1L << index;
+    }
+
+    /**
+     * number of bits set to one
+     */
+    public int cardinality() {
+        int count = 0;
+
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+
+        return count;
+    }
+
+    /**
+     * number of bits set to one in [from, to)
+     */
+    public int cardinality(int from, int to) {
+        if (from >= to) {
+            return 0;
+        }
+
+        int first = from >>> ADDRESS_BITS;
+        int last = (to - 1) >>> ADDRESS_BITS;
+        long firstMask = -1L << from;
+        long lastMask = -1L >>> -to;
+
+        if (first == last) {
+            return Long.bitCount(words[first] & firstMask & lastMask);
+        }
+
+        int count = Long.bitCount(words[first] & firstMask);
+
+        for (int i = first + 1; i < last; i++) {
+            count += Long.bitCount(words[i]);
+        }
+
+        return count + Long.bitCount(words[last] & lastMask);
+    }
+
+    public BitGenome copy() {
+        return new BitGenome(length, words.clone());
+    }
+
+    void clearUnusedBits() {
+        if (words.length > 0) {
+            words[words.length - 1] &= -1L >>> -length;
+        }
+    }
+
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (!(o instanceof BitGenome)) {
+            return false;
+        }
+
+        BitGenome other = (BitGenome) o;
+
+        return length == other.length && Arrays.equals(words, other.words);
+    }
+
+    public int hashCode() {
+        return 31 * length + Arrays.hashCode(words);
+    }
+
+    public String toString() {
+        StringBuilder sb = new StringBuilder(length);
+
+        for (int i = 0; i < length; i++) {
+            sb.append(get(i) ? '1' : '0');
+        }
+
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,308 @@
+package examples.ga;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.zip.CRC32;
+
+/**
+ * Saves the state of a GA run every interval generations, and after the
+ * last one, so that a run whose JVM dies can be resumed from its latest
+ * checkpoint with restore().
+ *
+ * The state (generation, best fitness, generator state, fitness values and
+ * genomes in the binary form of the problem's codec) is serialized into a
+ * reused buffer on the GA's thread, which costs about as much as copying
+ * the population. The buffer is then written by an asynchronous file
+ * channel, forced to disk and renamed over the previous checkpoint, so
+ * the file always holds a complete checkpoint. While a write is still
+ * going on, checkpoints are skipped rather than waited for.
+ *
+ * File format, big-endian: the magic "GACK", the format version, the
+ * problem id (modified UTF-8, see Problem.getId), the generation, the best
+ * fitness, the generator's seed and gamma, the population size, the
+ * fitness values, the genomes and a CRC32 of all that. A checkpoint is
+ * only restored into a GA of the same problem id and population size
+ * whose genome factory accepts every genome.
+ *
+ */
+public class Checkpointer<G> implements AutoCloseable {
+
+    private static final int MAGIC = 0x4741434B;
+    private static final int VERSION = 2;
+
+    private final Path file;
+    private final Path temporary;
+    private final Problem<G> problem;
+    private final int interval;
+    private final Buffer buffer = new Buffer();
+    private final DataOutputStream out = new DataOutputStream(buffer);
+    private CompletableFuture<Void> pending = CompletableFuture.completedFuture(null);
+    private long saved;
+    private long skipped;
+
+    public Checkpointer(Path file, Problem<G> problem, int interval) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("interval must be positive: " + interval);
+        }
+
+        this.file = file;
+        this.temporary = file.resolveSibling(file.getFileName() + ".tmp");
+        this.problem = problem;
+        this.interval = interval;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    /**
+     * number of checkpoints written
+     */
+    public long getSaved() {
+        return saved;
+    }
+
+    /**
+     * number of checkpoints skipped because the previous one was still
+     * being written
+     *
+     */
+    public long getSkipped() {
+        return skipped;
+    }
+
+    /**
+     * called by the GA after every generation, finished telling whether it
+     * was the last one
+     *
+     */
+    public void generationDone(GeneticAlgorithm<G> ga, boolean finished) {
+        if (finished) {
+            // the final state must not be skipped
+            pending.join();
+            save(ga);
+        } else if (ga.getGeneration() % interval == 0) {
+            if (pending.isDone()) {
+                save(ga);
+            } else {
+                skipped++;
+            }
+        }
+    }
+
+    private void save(GeneticAlgorithm<G> ga) {
+        Population<G> population = ga.getPopulation();
+        int n = population.size();
+        GenomeCodec<G> codec = problem.getCodec();
+
+        buffer.reset();
+
+        try {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(problem.getId());
+            out.writeInt(ga.getGeneration());
+            out.writeDouble(ga.getBestGlobalFitness());
+            out.writeLong(ga.getRandom().getSeed());
+            out.writeLong(ga.getRandom().getGamma());
+            out.writeInt(n);
+
+            for (int i = 0; i < n; i++) {
+                out.writeDouble(population.getFitness(i));
+            }
+
+            for (int i = 0; i < n; i++) {
+                codec.write(population.getGenes(i), out);
+            }
+
+            CRC32 crc = new CRC32();
+            crc.update(buffer.view());
+            out.writeInt((int) crc.getValue());
+        } catch (IOException e) {
+            // a ByteArrayOutputStream does not fail
+            throw new IllegalStateException(e);
+        }
+
+        pending = write(buffer.view());
+        saved++;
+    }
+
+    /**
+     * writes bytes to the temporary file and then moves it over the
+     * checkpoint; the future completes when it is done, failed or not
+     *
+     */
+    private CompletableFuture<Void> write(ByteBuffer bytes) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        AsynchronousFileChannel channel;
+
+        try {
+            channel = AsynchronousFileChannel.open(temporary, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+        } catch (IOException e) {
+            System.err.println("Error: checkpoint " + file + ": " + e);
+            done.complete(null);
+            return done;
+        }
+
+        channel.write(bytes, 0L, 0L, new CompletionHandler<Integer, Long>() {
+
+            public void completed(Integer written, Long position) {
+                long next = position + written;
+
+                if (bytes.hasRemaining()) {
+                    channel.write(bytes, next, next, this);
+                    return;
+                }
+
+                try {
+                    channel.force(true);
+                    channel.close();
+                    Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+                } catch (IOException e) {
+                    failed(e, position);
+                    return;
+                }
+
+                done.complete(null);
+            }
+
+            public void failed(Throwable e, Long position) {
+                System.err.println("Error: checkpoint " + file + ": " + e);
+
+                try {
+                    channel.close();
+                } catch (IOException ignored) {
+                    // already reported
+                }
+
+                done.complete(null);
+            }
+
+        });
+
+        return done;
+    }
+
+    /**
+     * resumes ga from the checkpoint, if there is one, and produces whether
+     * there was. A checkpoint of another problem id or population size, or
+     * with a genome the problem's factory does not accept, is rejected
+     * with an IOException and ga is left as it was
+     *
+     */
+    public boolean restore(GeneticAlgorithm<G> ga) throws IOException {
+        if (!Files.exists(file)) {
+            return false;
+        }
+
+        byte[] bytes = Files.readAllBytes(file);
+
+        if (bytes.length < Integer.BYTES) {
+            throw new IOException(file + ": truncated checkpoint");
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length - Integer.BYTES);
+
+        if ((int) crc.getValue() != ByteBuffer.wrap(bytes, bytes.length - Integer.BYTES,
+                Integer.BYTES).getInt()) {
+            throw new IOException(file + ": corrupt checkpoint");
+        }
+
+        var in = new DataInputStream(new ByteArrayInputStream(bytes));
+
+        if (in.readInt() != MAGIC) {
+            throw new IOException(file + ": not a GA checkpoint");
+        }
+
+        int version = in.readInt();
+
+        if (version != VERSION) {
+            throw new IOException(file + ": unsupported version " + version);
+        }
+
+        String id = in.readUTF();
+
+        if (!id.equals(problem.getId())) {
+            throw new IOException(file + ": checkpoint of " + id + ", not " +
+                problem.getId());
+        }
+
+        int generation = in.readInt();
+        double best = in.readDouble();
+        long seed = in.readLong();
+        long gamma = in.readLong();
+
+        if ((gamma & 1) == 0) {
+            throw new IOException(file + ": corrupt generator state");
+        }
+
+        SplitMix64 random = new SplitMix64(seed, gamma);
+        int n = in.readInt();
+
+        if (n != ga.getPopulationSize()) {
+            throw new IOException(file + ": checkpoint of a population of " + n +
+                ", not " + ga.getPopulationSize());
+        }
+
+        double[] fitness = new double[n];
+        List<G> genomes = new ArrayList<>(n);
+
+        for (int i = 0; i < n; i++) {
+            fitness[i] = in.readDouble();
+        }
+
+        for (int i = 0; i < n; i++) {
+            G genes = problem.getCodec().read(in);
+
+            if (!problem.getFactory().accepts(genes)) {
+                throw new IOException(file + ": genome " + i + " does not fit " +
+                    problem.getId());
+            }
+
+            genomes.add(genes);
+        }
+
+        ga.resume(generation, best, random, genomes, fitness);
+
+        return true;
+    }
+
+    /**
+     * waits for the checkpoint being written, if any
+     */
+    public void close() {
+        pending.join();
+    }
+
+    /**
+     * gives access to the bytes written so far without copying them
+     */
+    private static class Buffer extends ByteArrayOutputStream {
+
+        Buffer() {
+            super(1 << 16);
+        }
+
+        ByteBuffer view() {
+            return ByteBuffer.wrap(buf, 0, count);
+        }
+
+    }
+
+}
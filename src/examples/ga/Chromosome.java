@@ -0,0 +1,37 @@
+package examples.ga;
+
+/**
+ * An individual taken out of the population: a genome of type G together
+ * with its fitness.
+ */
+public class Chromosome<G> {
+
+    private G genes;
+    private double fitness;
+
+    public Chromosome(G g) {
+        this(g, 0.0);
+    }
+
+    public Chromosome(G g, double f) {
+        genes = g;
+        fitness = f;
+    }
+
+    public G getGenes() {
+        return genes;
+    }
+
+    public void setGenes(G genes) {
+        this.genes = genes;
+    }
+
+    public double getFitness() {
+        return fitness;
+    }
+
+    public void setFitness(double fitness) {
+        this.fitness = fitness;
+    }
+
+}
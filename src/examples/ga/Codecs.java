@@ -0,0 +1,183 @@
+package examples.ga;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Base64;
+
+/**
+ * Genome codecs for the representations used by the agents. Their binary
+ * forms are the length followed by the raw genes.
+ *
+ */
+public final class Codecs {
+
+    private Codecs() {
+    }
+
+    /**
+     * integers separated by spaces
+     */
+    public static GenomeCodec<int[]> ints() {
+        return new GenomeCodec<>() {
+            public String encode(int[] genes) {
+                StringBuilder sb = new StringBuilder();
+
+                for (int i = 0; i < genes.length; i++) {
+                    if (i > 0) {
+                        sb.append(' ');
+                    }
+
+                    sb.append(genes[i]);
+                }
+
+                return sb.toString();
+            }
+
+            public int[] decode(String text) {
+                String[] parts = split(text);
+                int[] genes = new int[parts.length];
+
+                for (int i = 0; i < parts.length; i++) {
+                    genes[i] = Integer.parseInt(parts[i]);
+                }
+
+                return genes;
+            }
+
+            public void write(int[] genes, DataOutput out) throws IOException {
+                out.writeInt(genes.length);
+
+                for (int gene : genes) {
+                    out.writeInt(gene);
+                }
+            }
+
+            public int[] read(DataInput in) throws IOException {
+                int[] genes = new int[in.readInt()];
+
+                for (int i = 0; i < genes.length; i++) {
+                    genes[i] = in.readInt();
+                }
+
+                return genes;
+            }
+        };
+    }
+
+    /**
+     * reals separated by spaces, Double.toString keeps them exact
+     */
+    public static GenomeCodec<double[]> doubles() {
+        return new GenomeCodec<>() {
+            public String encode(double[] genes) {
+                StringBuilder sb = new StringBuilder();
+
+                for (int i = 0; i < genes.length; i++) {
+                    if (i > 0) {
+                        sb.append(' ');
+                    }
+
+                    sb.append(genes[i]);
+                }
+
+                return sb.toString();
+            }
+
+            public double[] decode(String text) {
+                String[] parts = split(text);
+                double[] genes = new double[parts.length];
+
+                for (int i = 0; i < parts.length; i++) {
+                    genes[i] = Double.parseDouble(parts[i]);
+                }
+
+                return genes;
+            }
+
+            public void write(double[] genes, DataOutput out) throws IOException {
+                out.writeInt(genes.length);
+
+                for (double gene : genes) {
+                    out.writeDouble(gene);
+                }
+            }
+
+            public double[] read(DataInput in) throws IOException {
+                double[] genes = new double[in.readInt()];
+
+                for (int i = 0; i < genes.length; i++) {
+                    genes[i] = in.readDouble();
+                }
+
+                return genes;
+            }
+        };
+    }
+
+    /**
+     * "length:words" with the packed words in base 64, about 6 times
+     * shorter than a string of '0' and '1'
+     *
+     */
+    public static GenomeCodec<BitGenome> bits() {
+        return new GenomeCodec<>() {
+            public String encode(BitGenome genes) {
+                long[] words = genes.words();
+                ByteBuffer bytes = ByteBuffer.allocate(words.length * Long.BYTES)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+
+                bytes.asLongBuffer().put(words);
+
+                return genes.length() + ":" +
+                    Base64.getEncoder().encodeToString(bytes.array());
+            }
+
+            public BitGenome decode(String text) {
+                int colon = text.indexOf(':');
+                BitGenome genes = new BitGenome(Integer.parseInt(text.substring(0, colon)));
+                byte[] bytes = Base64.getDecoder().decode(text.substring(colon + 1));
+                long[] words = genes.words();
+
+                if (bytes.length != words.length * Long.BYTES) {
+                    throw new IllegalArgumentException("bad bit genome: " + text);
+                }
+
+                ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asLongBuffer().get(words);
+                genes.clearUnusedBits();
+
+                return genes;
+            }
+
+            public void write(BitGenome genes, DataOutput out) throws IOException {
+                out.writeInt(genes.length());
+
+                for (long word : genes.words()) {
+                    out.writeLong(word);
+                }
+            }
+
+            public BitGenome read(DataInput in) throws IOException {
+                BitGenome genes = new BitGenome(in.readInt());
+                long[] words = genes.words();
+
+                for (int i = 0; i < words.length; i++) {
+                    words[i] = in.readLong();
+                }
+
+                genes.clearUnusedBits();
+
+                return genes;
+            }
+        };
+    }
+
+    private static String[] split(String text) {
+        String trimmed = text.trim();
+
+        return trimmed.isEmpty() ? new String[0] : trimmed.split("\\s+");
+    }
+
+}
@@ -0,0 +1,20 @@
+package examples.ga;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Combines the genomes of two parents into two children. The children are
+ * existing genomes that get overwritten; the parents must not be modified.
+ *
+ * Produces the crossover point p when the first child is [0, p) of
+ * parentA followed by [p, length) of parentB and the second child the
+ * other way round, or -1 when the children are made some other way. The
+ * GA uses the point to derive the fitness of the children incrementally.
+ *
+ */
+@FunctionalInterface
+public interface CrossoverOperator<G> {
+
+    int crossover(G parentA, G parentB, G firstChild, G secondChild, RandomGenerator random);
+
+}
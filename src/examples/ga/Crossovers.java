@@ -0,0 +1,68 @@
+package examples.ga;
+
+/**
+ * One point crossover for the genome representations used by the agents.
+ * The crossover point is chosen uniformly in [0, length).
+ *
+ */
+public final class Crossovers {
+
+    private Crossovers() {
+    }
+
+    public static CrossoverOperator<int[]> onePointInt() {
+        return (parentA, parentB, firstChild, secondChild, random) -> {
+            int length = parentA.length;
+            int xoverPoint = random.nextInt(length);
+
+            System.arraycopy(parentA, 0, firstChild, 0, xoverPoint);
+            System.arraycopy(parentB, xoverPoint, firstChild, xoverPoint, length - xoverPoint);
+            System.arraycopy(parentB, 0, secondChild, 0, xoverPoint);
+            System.arraycopy(parentA, xoverPoint, secondChild, xoverPoint, length - xoverPoint);
+
+            return xoverPoint;
+        };
+    }
+
+    public static CrossoverOperator<double[]> onePointDouble() {
+        return (parentA, parentB, firstChild, secondChild, random) -> {
+            int length = parentA.length;
+            int xoverPoint = random.nextInt(length);
+
+            System.arraycopy(parentA, 0, firstChild, 0, xoverPoint);
+            System.arraycopy(parentB, xoverPoint, firstChild, xoverPoint, length - xoverPoint);
+            System.arraycopy(parentB, 0, secondChild, 0, xoverPoint);
+            System.arraycopy(parentA, xoverPoint, secondChild, xoverPoint, length - xoverPoint);
+
+            return xoverPoint;
+        };
+    }
+
+    /**
+     * one point crossover on packed bits: whole words are copied and the
+     * word holding the crossover point is mixed with a mask
+     *
+     */
+    public static CrossoverOperator<BitGenome> onePointBits() {
+        return (parentA, parentB, firstChild, secondChild, random) -> {
+            int xoverPoint = random.nextInt(parentA.length());
+            long[] a = parentA.words();
+            long[] b = parentB.words();
+            long[] first = firstChild.words();
+            long[] second = secondChild.words();
+            int word = xoverPoint >>> 6;
+            // bits below the crossover point inside its word
+            long head = (1L << xoverPoint) - 1;
+
+            System.arraycopy(a, 0, first, 0, word);
+            System.arraycopy(b, 0, second, 0, word);
+            first[word] = (a[word] & head) | (b[word] & ~head);
+            second[word] = (b[word] & head) | (a[word] & ~head);
+            System.arraycopy(b, word + 1, first, word + 1, a.length - word - 1);
+            System.arraycopy(a, word + 1, second, word + 1, a.length - word - 1);
+
+            return xoverPoint;
+        };
+    }
+
+}
@@ -0,0 +1,64 @@
+package examples.ga;
+
+/**
+ * (mu + lambda) replacement: parents (mu) and children (lambda) compete
+ * together and only the best populationSize of them survive.
+ *
+ * The ranking buffers are reused between generations, so an instance must
+ * not be shared by concurrently running GAs.
+ *
+ */
+public class ElitistReplacement<G> implements ReplacementStrategy<G> {
+
+    private final int lambda;
+    private double[] pool = new double[0];
+    private int[] order = new int[0];
+    private int[] buffer = new int[0];
+
+    /**
+     * breeds as many children as the population size
+     */
+    public ElitistReplacement() {
+        this(-1);
+    }
+
+    public ElitistReplacement(int lambda) {
+        this.lambda = lambda;
+    }
+
+    public int offspringCount(int populationSize) {
+        return lambda < 0 ? populationSize : lambda;
+    }
+
+    public Population<G> replace(Population<G> population, Population<G> children,
+            Population<G> next) {
+        int mu = population.size();
+        int n = mu + children.size();
+
+        if (pool.length < n) {
+            pool = new double[n];
+            order = new int[n];
+            buffer = new int[n];
+        }
+
+        // parents first, so on equal fitness they are ranked above children
+        for (int i = 0; i < n; i++) {
+            pool[i] = -(i < mu ? population.getFitness(i) : children.getFitness(i - mu));
+        }
+
+        IndexSort.ascending(pool, n, order, buffer);
+
+        for (int k = 0; k < mu; k++) {
+            int i = order[k];
+
+            if (i < mu) {
+                next.swap(k, population, i);
+            } else {
+                next.swap(k, children, i - mu);
+            }
+        }
+
+        return next;
+    }
+
+}
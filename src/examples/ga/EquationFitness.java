@@ -0,0 +1,72 @@
+package examples.ga;
+
+/**
+ * Fitness of the equation a + 2b - 3c + d + 4e = 30 for genomes
+ * {a, b, c, d, e}: 30 when the equation holds, (a + 2b - 3c + d + 4e) % 31
+ * otherwise. It can be negative, and it is 30 for a left hand side of 61
+ * too, so whether a genome is a solution is told by holds().
+ *
+ * The left hand side is the score, each gene contributing its value times
+ * its coefficient.
+ *
+ */
+public class EquationFitness implements IncrementalFitnessFunction<int[]> {
+
+    public static final int TARGET = 30;
+
+    private static final int[] COEFFICIENTS = {1, 2, -3, 1, 4};
+
+    public int length(int[] ind) {
+        return COEFFICIENTS.length;
+    }
+
+    public double geneScore(int[] ind, int index) {
+        return COEFFICIENTS[index] * ind[index];
+    }
+
+    public double fitness(double score) {
+        int result = (int) score;
+        int fitness = 0;
+
+        if (result == TARGET) {
+            fitness = TARGET;
+        } else {
+            fitness = result % (TARGET + 1);
+        }
+
+        return fitness;
+    }
+
+    public double evaluate(int[] ind) {
+        return fitness(leftHandSide(ind));
+    }
+
+    /**
+     * whether the equation holds for the genome
+     */
+    public static boolean holds(int[] ind) {
+        return leftHandSide(ind) == TARGET;
+    }
+
+    private static int leftHandSide(int[] ind) {
+        // a + 2b - 3c + d + 4e
+        return ind[0] + (2 * ind[1]) - (3 * ind[2]) +
+            ind[3] + (4 * ind[4]);
+    }
+
+    /**
+     * cache key of a genome of digits: the digits read as a decimal
+     * number, so the 10^5 possible genomes get distinct keys
+     *
+     */
+    public static Integer key(int[] ind) {
+        int key = 0;
+
+        for (int gene : ind) {
+            key = key * 10 + gene;
+        }
+
+        return key;
+    }
+
+}
@@ -0,0 +1,95 @@
+package examples.ga;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Bounded memo of a fitness function, keyed by genome. Useful when the
+ * genome space is small (so the same genomes keep coming back) and the
+ * fitness is expensive; for cheap fitness functions a lookup costs more
+ * than a recomputation.
+ *
+ * The key function must produce an immutable value with equals/hashCode
+ * on the genome's content: the GA rewrites genomes in place, so the
+ * genome itself (or an array) must never be used as key. When the cache
+ * is full the least recently used entry is evicted. Hits and misses are
+ * counted. The cache can be shared by the threads of a ParallelEvaluator;
+ * the fitness is computed outside the lock.
+ *
+ */
+public class FitnessCache<G> implements FitnessFunction<G> {
+
+    private final FitnessFunction<G> fitnessFunction;
+    private final Function<? super G, ?> key;
+    private final LinkedHashMap<Object, Double> entries;
+    private long hits;
+    private long misses;
+
+    public FitnessCache(FitnessFunction<G> fitnessFunction, Function<? super G, ?> key,
+            int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+
+        this.fitnessFunction = fitnessFunction;
+        this.key = key;
+        this.entries = new LinkedHashMap<>(capacity * 4 / 3 + 1, 0.75f, true) {
+            protected boolean removeEldestEntry(Map.Entry<Object, Double> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public double evaluate(G genes) {
+        Object k = key.apply(genes);
+        Double cached;
+
+        synchronized (this) {
+            cached = entries.get(k);
+
+            if (cached != null) {
+                hits++;
+                return cached;
+            }
+
+            misses++;
+        }
+
+        double fitness = fitnessFunction.evaluate(genes);
+
+        synchronized (this) {
+            entries.put(k, fitness);
+        }
+
+        return fitness;
+    }
+
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * fraction of the lookups answered from the cache
+     */
+    public synchronized double getHitRate() {
+        long lookups = hits + misses;
+
+        return lookups == 0 ? 0.0 : (double) hits / lookups;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        hits = 0;
+        misses = 0;
+    }
+
+}
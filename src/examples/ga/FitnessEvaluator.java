@@ -0,0 +1,12 @@
+package examples.ga;
+
+/**
+ * Strategy used by the GA to evaluate a group of individuals: sets the
+ * fitness of each one and produces the total fitness of the group.
+ *
+ */
+public interface FitnessEvaluator {
+
+    <G> double evaluate(Population<G> individuals, FitnessFunction<G> fitnessFunction);
+
+}
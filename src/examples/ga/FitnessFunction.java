@@ -0,0 +1,14 @@
+package examples.ga;
+
+/**
+ * G -> double
+ *
+ * produces the fitness of a genome, bigger is better
+ *
+ */
+@FunctionalInterface
+public interface FitnessFunction<G> {
+
+    double evaluate(G genes);
+
+}
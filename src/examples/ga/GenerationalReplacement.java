@@ -0,0 +1,77 @@
+package examples.ga;
+
+/**
+ * The children replace the whole population, except for the given number
+ * of elites (best parents) which survive unchanged.
+ *
+ */
+public class GenerationalReplacement<G> implements ReplacementStrategy<G> {
+
+    private final int elites;
+    private final int[] chosenElites;
+
+    public GenerationalReplacement() {
+        this(0);
+    }
+
+    public GenerationalReplacement(int elites) {
+        if (elites < 0) {
+            throw new IllegalArgumentException("elites must not be negative: " + elites);
+        }
+
+        this.elites = elites;
+        this.chosenElites = new int[elites];
+    }
+
+    public int offspringCount(int populationSize) {
+        return populationSize - Math.min(elites, populationSize);
+    }
+
+    public Population<G> replace(Population<G> population, Population<G> children,
+            Population<G> next) {
+        int keep = Math.min(elites, population.size());
+
+        for (int k = 0; k < keep; k++) {
+            chosenElites[k] = bestExcept(population, k);
+        }
+
+        for (int k = 0; k < keep; k++) {
+            next.swap(k, population, chosenElites[k]);
+        }
+
+        for (int i = 0; i < children.size(); i++) {
+            next.swap(keep + i, children, i);
+        }
+
+        return next;
+    }
+
+    /**
+     * produces the fittest individual not among the first taken elites,
+     * elites are few so a scan per elite is cheaper than a sort
+     *
+     */
+    private int bestExcept(Population<G> population, int taken) {
+        int best = -1;
+
+        for (int i = 0; i < population.size(); i++) {
+            if (!isTaken(i, taken) &&
+                    (best < 0 || population.getFitness(i) > population.getFitness(best))) {
+                best = i;
+            }
+        }
+
+        return best;
+    }
+
+    private boolean isTaken(int index, int taken) {
+        for (int k = 0; k < taken; k++) {
+            if (chosenElites[k] == index) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+}
@@ -0,0 +1,659 @@
+package examples.ga;
+
+import examples.metrics.Counter;
+import examples.metrics.Metrics;
+import examples.metrics.PhaseTimer;
+import examples.telemetry.Telemetry;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Generic genetic algorithm. The genome representation and the problem
+ * are given by the pluggable factory, fitness function and operators, so
+ * every GA agent runs the same generation loop.
+ *
+ * All the stores the loop needs (population, children, the spare buffer
+ * of the next generation and the selection indices) are allocated when
+ * the run starts; from then on operators rewrite genomes in place and
+ * survivors move by swapping slots, so a generation allocates nothing
+ * beyond what the pluggable parts themselves do.
+ *
+ * With an IncrementalFitnessFunction and a PointMutation the children are
+ * not evaluated from scratch: their score is derived from their parents'
+ * scores and the genes that crossover and mutation changed.
+ *
+ */
+public class GeneticAlgorithm<G> {
+
+    // incremental scores are recomputed from scratch this often, so that
+    // rounding errors of real valued scores cannot pile up
+    private static final int RESCORE_INTERVAL = 100;
+
+    /**
+     * columns of the telemetry records, one per generation: the best and
+     * the mean fitness and the standard deviation of the fitness, a cheap
+     * measure of the diversity left in the population
+     *
+     */
+    public static final String[] TELEMETRY_COLUMNS = {"best", "mean", "diversity"};
+
+    private int populationSize;
+    private int numberOfGenerations;
+    private int generation;
+    private double bestGlobalFitness;
+    // the stopping criteria are checked once per generation, see isFinished()
+    private boolean finished;
+
+    private final GenomeFactory<G> factory;
+    private FitnessFunction<G> fitnessFunction;
+    private SelectionOperator selection;
+    private CrossoverOperator<G> crossover;
+    private MutationOperator<G> mutation;
+    private ReplacementStrategy<G> replacement;
+    private FitnessEvaluator evaluator;
+    private SplitMix64 random;
+    private final List<StoppingCriterion> stoppingCriteria = new ArrayList<>();
+    private Telemetry telemetry;
+    private Checkpointer<G> checkpointer;
+    private final double[] record = new double[TELEMETRY_COLUMNS.length];
+    // all null unless the run is measured
+    private PhaseTimer evaluationTimer;
+    private PhaseTimer selectionTimer;
+    private PhaseTimer crossoverTimer;
+    private PhaseTimer mutationTimer;
+    private PhaseTimer replacementTimer;
+    private Counter generations;
+    private Counter allocated;
+
+    private Population<G> population;
+    private Population<G> next;
+    private Population<G> children;
+    private int[] chosen;
+    // second child of the last pair when an odd number of children is bred
+    private G spare;
+    // both null unless children are evaluated incrementally
+    private IncrementalFitnessFunction<G> incremental;
+    private PointMutation<G> pointMutation;
+
+    public GeneticAlgorithm(int pSize, int nGens, GenomeFactory<G> factory,
+            FitnessFunction<G> fitnessFunction, CrossoverOperator<G> crossover,
+            MutationOperator<G> mutation) {
+        populationSize = pSize;
+        numberOfGenerations = nGens;
+        this.factory = factory;
+        this.fitnessFunction = fitnessFunction;
+        this.selection = new RouletteSelection();
+        this.crossover = crossover;
+        this.mutation = mutation;
+        this.replacement = new GenerationalReplacement<>(1);
+        this.evaluator = new SequentialEvaluator();
+        this.random = new SplitMix64();
+    }
+
+    public void setSelection(SelectionOperator selection) {
+        this.selection = selection;
+    }
+
+    public void setCrossover(CrossoverOperator<G> crossover) {
+        this.crossover = crossover;
+    }
+
+    public void setMutation(MutationOperator<G> mutation) {
+        this.mutation = mutation;
+    }
+
+    public void setReplacement(ReplacementStrategy<G> replacement) {
+        this.replacement = replacement;
+    }
+
+    /**
+     * a ParallelEvaluator spreads the fitness evaluation over several cores,
+     * the fitness function must then be thread-safe
+     *
+     */
+    public void setEvaluator(FitnessEvaluator evaluator) {
+        this.evaluator = evaluator;
+    }
+
+    /**
+     * records the TELEMETRY_COLUMNS of every generation to telemetry, null
+     * to record nothing (the default)
+     *
+     */
+    public void setTelemetry(Telemetry telemetry) {
+        if (telemetry != null && telemetry.getColumns().length != TELEMETRY_COLUMNS.length) {
+            throw new IllegalArgumentException("telemetry must have the columns " +
+                Arrays.toString(TELEMETRY_COLUMNS));
+        }
+
+        this.telemetry = telemetry;
+    }
+
+    /**
+     * times the phases of every generation ("evaluation", "selection",
+     * "crossover", "mutation", "replacement") and counts the
+     * "generations" and the "allocatedBytes" of the run in metrics; null
+     * (the default) measures nothing
+     *
+     */
+    public void setMetrics(Metrics metrics) {
+        if (metrics == null) {
+            evaluationTimer = null;
+            selectionTimer = null;
+            crossoverTimer = null;
+            mutationTimer = null;
+            replacementTimer = null;
+            generations = null;
+            allocated = null;
+            return;
+        }
+
+        evaluationTimer = metrics.timer("evaluation");
+        selectionTimer = metrics.timer("selection");
+        crossoverTimer = metrics.timer("crossover");
+        mutationTimer = metrics.timer("mutation");
+        replacementTimer = metrics.timer("replacement");
+        generations = metrics.counter("generations");
+        allocated = Metrics.allocatedBytes() >= 0 ? metrics.counter("allocatedBytes") : null;
+    }
+
+    /**
+     * offers the state of the run to checkpointer after every generation,
+     * null (the default) to save nothing
+     *
+     */
+    public void setCheckpointer(Checkpointer<G> checkpointer) {
+        this.checkpointer = checkpointer;
+    }
+
+    /**
+     * makes the run stop as soon as criterion is met, even before the
+     * last generation
+     *
+     */
+    public void addStoppingCriterion(StoppingCriterion criterion) {
+        stoppingCriteria.add(criterion);
+    }
+
+    /**
+     * puts a FitnessCache of the given capacity in front of the fitness
+     * function and produces it, so its hit rate can be read. key must
+     * produce immutable values (see FitnessCache)
+     *
+     */
+    public FitnessCache<G> cacheFitness(int capacity, Function<? super G, ?> key) {
+        FitnessCache<G> cache = new FitnessCache<>(fitnessFunction, key, capacity);
+        fitnessFunction = cache;
+
+        return cache;
+    }
+
+    /**
+     * the generator used by every operator of the run, it must not be
+     * shared with other threads
+     *
+     */
+    public void setRandom(SplitMix64 random) {
+        this.random = random;
+    }
+
+    /**
+     * makes the run reproducible: the same seed and parameters give the
+     * same result
+     *
+     */
+    public void setSeed(long seed) {
+        this.random = new SplitMix64(seed);
+    }
+
+    public SplitMix64 getRandom() {
+        return random;
+    }
+
+    public Population<G> getPopulation() {
+        return population;
+    }
+
+    public double getBestGlobalFitness() {
+        return bestGlobalFitness;
+    }
+
+    public int getPopulationSize() {
+        return populationSize;
+    }
+
+    public int getGeneration() {
+        return generation;
+    }
+
+    public int getNumberOfGenerations() {
+        return numberOfGenerations;
+    }
+
+    public FitnessFunction<G> getFitnessFunction() {
+        return fitnessFunction;
+    }
+
+    /**
+     * allocates the stores of the run and fills the population with random
+     * individuals
+     *
+     */
+    public void generatePopulation() {
+        int offspring = replacement.offspringCount(populationSize);
+
+        population = new Population<>(populationSize, factory, random);
+        next = new Population<>(populationSize, factory, random);
+        children = new Population<>(offspring, factory, random);
+        // parents are mated two by two, so an odd count needs one more
+        chosen = new int[offspring + (offspring & 1)];
+        spare = factory.create(random);
+    }
+
+    public double populationFitness() {
+        if (incremental != null) {
+            return score(population);
+        }
+
+        return evaluator.evaluate(population, fitnessFunction);
+    }
+
+    /**
+     * computes the score and fitness of every individual from scratch
+     */
+    private double score(Population<G> individuals) {
+        double totalFitness = 0.0;
+
+        for (int i = 0; i < individuals.size(); i++) {
+            G genes = individuals.getGenes(i);
+            double indScore = incremental.segmentScore(genes, 0, incremental.length(genes));
+            double indFitness = incremental.fitness(indScore);
+
+            individuals.setScore(i, indScore);
+            individuals.setFitness(i, indFitness);
+            totalFitness += indFitness;
+        }
+
+        return totalFitness;
+    }
+
+    public void selectParents() {
+        selection.select(population.fitness(), chosen, random);
+    }
+
+    /**
+     * breeds the children, mating the chosen parents two by two
+     *
+     */
+    public void reproduceChildren() {
+        int count = children.size();
+
+        for (int i = 0; i < count; i += 2) {
+            G secondChild = i + 1 < count ? children.getGenes(i + 1) : spare;
+            int parentA = chosen[i];
+            int parentB = chosen[i + 1];
+
+            int xoverPoint = crossover.crossover(population.getGenes(parentA),
+                population.getGenes(parentB), children.getGenes(i),
+                secondChild, random);
+
+            if (incremental != null) {
+                scoreChildren(parentA, parentB, xoverPoint, i);
+            }
+        }
+    }
+
+    /**
+     * derives the scores of children i and i + 1 from their parents'. The
+     * children differ from the parents only in one segment, either side of
+     * the crossover point, so the shorter side is summed.
+     *
+     */
+    private void scoreChildren(int parentA, int parentB, int xoverPoint, int i) {
+        G genesA = population.getGenes(parentA);
+        G genesB = population.getGenes(parentB);
+        double scoreA = population.getScore(parentA);
+        double scoreB = population.getScore(parentB);
+        int length = incremental.length(genesA);
+        double first;
+        double second;
+
+        if (xoverPoint < 0) {
+            first = incremental.segmentScore(children.getGenes(i), 0, length);
+            second = i + 1 < children.size() ?
+                incremental.segmentScore(children.getGenes(i + 1), 0, length) : 0.0;
+        } else if (xoverPoint >= length - xoverPoint) {
+            // first child is head of A and tail of B
+            double tailA = incremental.segmentScore(genesA, xoverPoint, length);
+            double tailB = incremental.segmentScore(genesB, xoverPoint, length);
+            first = scoreA - tailA + tailB;
+            second = scoreB - tailB + tailA;
+        } else {
+            double headA = incremental.segmentScore(genesA, 0, xoverPoint);
+            double headB = incremental.segmentScore(genesB, 0, xoverPoint);
+            first = scoreB - headB + headA;
+            second = scoreA - headA + headB;
+        }
+
+        children.setScore(i, first);
+
+        if (i + 1 < children.size()) {
+            children.setScore(i + 1, second);
+        }
+    }
+
+    public void mutateChildren() {
+        for (int i = 0; i < children.size(); i++) {
+            G genes = children.getGenes(i);
+
+            if (incremental != null) {
+                int idx = pointMutation.position(genes, random);
+                double before = incremental.geneScore(genes, idx);
+
+                pointMutation.mutateAt(genes, idx, random);
+                children.setScore(i, children.getScore(i) - before +
+                    incremental.geneScore(genes, idx));
+            } else {
+                mutation.mutate(genes, random);
+            }
+        }
+    }
+
+    public void evaluateChildren() {
+        if (incremental != null) {
+            for (int i = 0; i < children.size(); i++) {
+                children.setFitness(i, incremental.fitness(children.getScore(i)));
+            }
+        } else {
+            evaluator.evaluate(children, fitnessFunction);
+        }
+    }
+
+    /**
+     * produces a copy of the best individual of the population
+     */
+    public Chromosome<G> getBest() {
+        int best = population.best();
+
+        return new Chromosome<>(factory.copy(population.getGenes(best)),
+            population.getFitness(best));
+    }
+
+    /**
+     * creates and evaluates the initial population, the run can then be
+     * advanced with step()
+     *
+     */
+    public void initialize() {
+        chooseEvaluation();
+        generatePopulation();
+
+        if (evaluationTimer != null) {
+            long start = evaluationTimer.start();
+            populationFitness();
+            evaluationTimer.stop(start);
+        } else {
+            populationFitness();
+        }
+
+        generation = 0;
+        bestGlobalFitness = population.getFitness(population.best());
+
+        for (StoppingCriterion criterion : stoppingCriteria) {
+            criterion.start(this);
+        }
+
+        finished = checkFinished();
+
+        if (telemetry != null) {
+            record();
+        }
+    }
+
+    /**
+     * continues a run from a saved state (see Checkpointer) instead of
+     * initialize(): the population is made of genomes, whose fitness is
+     * given, and random is the generator as it was at that generation
+     *
+     */
+    public void resume(int generation, double bestGlobalFitness, SplitMix64 random,
+            List<G> genomes, double[] fitness) {
+        if (genomes.size() != populationSize || fitness.length != populationSize) {
+            throw new IllegalArgumentException("expected a population of " +
+                populationSize + ", got " + genomes.size());
+        }
+
+        chooseEvaluation();
+        generatePopulation();
+
+        for (int i = 0; i < populationSize; i++) {
+            population.setGenes(i, genomes.get(i));
+            population.setFitness(i, fitness[i]);
+        }
+
+        if (incremental != null) {
+            score(population);
+        }
+
+        this.random = random;
+        this.generation = generation;
+        this.bestGlobalFitness = bestGlobalFitness;
+
+        for (StoppingCriterion criterion : stoppingCriteria) {
+            criterion.start(this);
+        }
+
+        finished = checkFinished();
+    }
+
+    /**
+     * evaluates children incrementally when the fitness function and the
+     * mutation allow it
+     *
+     */
+    @SuppressWarnings("unchecked")
+    private void chooseEvaluation() {
+        if (fitnessFunction instanceof IncrementalFitnessFunction &&
+                mutation instanceof PointMutation) {
+            incremental = (IncrementalFitnessFunction<G>) fitnessFunction;
+            pointMutation = (PointMutation<G>) mutation;
+        } else {
+            incremental = null;
+            pointMutation = null;
+        }
+    }
+
+    private void record() {
+        double[] fitness = population.fitness();
+        int n = fitness.length;
+        double sum = 0.0;
+        double sumOfSquares = 0.0;
+
+        for (int i = 0; i < n; i++) {
+            sum += fitness[i];
+            sumOfSquares += fitness[i] * fitness[i];
+        }
+
+        double mean = sum / n;
+
+        record[0] = bestGlobalFitness;
+        record[1] = mean;
+        record[2] = Math.sqrt(Math.max(0.0, sumOfSquares / n - mean * mean));
+        telemetry.record(generation, record);
+    }
+
+    /**
+     * runs one generation
+     */
+    public void step() {
+        if (generations != null) {
+            measuredStep();
+        } else {
+            selectParents();
+            reproduceChildren();
+            mutateChildren();
+            evaluateChildren();
+            replace();
+        }
+
+        generation++;
+
+        if (incremental != null && generation % RESCORE_INTERVAL == 0) {
+            score(population);
+        }
+
+        updateBestGlobalFitness(population.getFitness(population.best()));
+        finished = checkFinished();
+
+        if (telemetry != null) {
+            record();
+        }
+
+        if (checkpointer != null) {
+            checkpointer.generationDone(this, finished);
+        }
+    }
+
+    private void replace() {
+        var survivors = replacement.replace(population, children, next);
+
+        if (survivors != population) {
+            next = population;
+            population = survivors;
+        }
+    }
+
+    /**
+     * the phases of step(), timed
+     */
+    private void measuredStep() {
+        long allocatedBefore = allocated != null ? Metrics.allocatedBytes() : 0;
+        long t = selectionTimer.start();
+
+        selectParents();
+        t = selectionTimer.stop(t);
+        reproduceChildren();
+        t = crossoverTimer.stop(t);
+        mutateChildren();
+        t = mutationTimer.stop(t);
+        evaluateChildren();
+        t = evaluationTimer.stop(t);
+        replace();
+        replacementTimer.stop(t);
+
+        generations.increment();
+
+        if (allocated != null) {
+            allocated.add(Metrics.allocatedBytes() - allocatedBefore);
+        }
+    }
+
+    /**
+     * true once the last generation has run or a stopping criterion is met.
+     * The criteria are checked once per generation, by step() (and by
+     * initialize(), resume() and immigrate()), so that time based ones
+     * give every caller the same answer until the next generation
+     *
+     */
+    public boolean isFinished() {
+        return finished;
+    }
+
+    private boolean checkFinished() {
+        if (generation >= numberOfGenerations) {
+            return true;
+        }
+
+        for (StoppingCriterion criterion : stoppingCriteria) {
+            if (criterion.isMet(this)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * produces copies of the genomes of the count best individuals, best
+     * first
+     *
+     */
+    public ArrayList<G> getBestGenomes(int count) {
+        int n = population.size();
+        int[] order = new int[n];
+
+        IndexSort.ascending(population.fitness(), n, order, new int[n]);
+
+        ArrayList<G> best = new ArrayList<>(Math.min(count, n));
+
+        for (int k = 0; k < count && k < n; k++) {
+            best.add(factory.copy(population.getGenes(order[n - 1 - k])));
+        }
+
+        return best;
+    }
+
+    /**
+     * brings foreign individuals (e.g. migrants from other islands) into
+     * the population, each one replacing the current worst individual.
+     * Genomes the factory does not accept (e.g. of another length) are
+     * dropped; produces the number taken in
+     *
+     */
+    public int immigrate(List<G> genomes) {
+        int accepted = 0;
+
+        for (G genes : genomes) {
+            if (!factory.accepts(genes)) {
+                continue;
+            }
+
+            int worst = population.worst();
+            double indFitness;
+
+            if (incremental != null) {
+                double indScore = incremental.segmentScore(genes, 0, incremental.length(genes));
+                indFitness = incremental.fitness(indScore);
+                population.setScore(worst, indScore);
+            } else {
+                indFitness = fitnessFunction.evaluate(genes);
+            }
+
+            population.setGenes(worst, genes);
+            population.setFitness(worst, indFitness);
+            updateBestGlobalFitness(indFitness);
+            accepted++;
+        }
+
+        if (accepted > 0) {
+            finished = checkFinished();
+        }
+
+        return accepted;
+    }
+
+    private void updateBestGlobalFitness(double currentBestFitness) {
+        if (currentBestFitness > bestGlobalFitness) {
+            bestGlobalFitness = currentBestFitness;
+        }
+    }
+
+    /**
+     * runs the whole optimization and produces the best individual of the
+     * final population
+     *
+     */
+    public Chromosome<G> runGA() {
+        initialize();
+
+        while (!isFinished()) {
+            step();
+        }
+
+        return getBest();
+    }
+
+}
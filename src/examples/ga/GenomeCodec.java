@@ -0,0 +1,38 @@
+package examples.ga;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Text form of the genomes of a representation, used to send individuals
+ * to other agents inside ACL messages. decode(encode(g)) must be equal to
+ * g, and the text must not contain line breaks.
+ *
+ * The binary form, used by checkpoints, is the text in UTF-8 unless the
+ * codec has a more compact one; read(write(g)) must be equal to g too.
+ *
+ */
+public interface GenomeCodec<G> {
+
+    String encode(G genes);
+
+    G decode(String text);
+
+    default void write(G genes, DataOutput out) throws IOException {
+        byte[] bytes = encode(genes).getBytes(StandardCharsets.UTF_8);
+
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    default G read(DataInput in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+
+        in.readFully(bytes);
+
+        return decode(new String(bytes, StandardCharsets.UTF_8));
+    }
+
+}
@@ -0,0 +1,32 @@
+package examples.ga;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Creates and copies the genomes of a representation. Genomes are mutable:
+ * the GA allocates them once and then rewrites them in place.
+ *
+ */
+public interface GenomeFactory<G> {
+
+    /**
+     * produces a random genome, used to fill the population
+     */
+    G create(RandomGenerator random);
+
+    /**
+     * produces an independent copy of the genome
+     */
+    G copy(G genes);
+
+    /**
+     * whether genes has the shape (length, range of the genes) of the
+     * genomes this factory creates, for genomes that come from outside
+     * the run, e.g. migrants; true by default
+     *
+     */
+    default boolean accepts(G genes) {
+        return true;
+    }
+
+}
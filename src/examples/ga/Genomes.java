@@ -0,0 +1,103 @@
+package examples.ga;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Genome factories for the representations used by the agents.
+ */
+public final class Genomes {
+
+    private Genomes() {
+    }
+
+    /**
+     * genomes of length integers in [0, bound)
+     */
+    public static GenomeFactory<int[]> ints(int length, int bound) {
+        return new GenomeFactory<>() {
+            public int[] create(RandomGenerator random) {
+                int[] genes = new int[length];
+
+                for (int j = 0; j < length; j++) {
+                    genes[j] = random.nextInt(bound);
+                }
+
+                return genes;
+            }
+
+            public int[] copy(int[] genes) {
+                return genes.clone();
+            }
+
+            public boolean accepts(int[] genes) {
+                if (genes.length != length) {
+                    return false;
+                }
+
+                for (int gene : genes) {
+                    if (gene < 0 || gene >= bound) {
+                        return false;
+                    }
+                }
+
+                return true;
+            }
+        };
+    }
+
+    /**
+     * genomes of length reals in [min, max + 1)
+     */
+    public static GenomeFactory<double[]> doubles(int length, double min, double max) {
+        return new GenomeFactory<>() {
+            public double[] create(RandomGenerator random) {
+                double[] genes = new double[length];
+
+                for (int j = 0; j < length; j++) {
+                    genes[j] = random.nextDouble() * (max - min + 1) + min;
+                }
+
+                return genes;
+            }
+
+            public double[] copy(double[] genes) {
+                return genes.clone();
+            }
+
+            public boolean accepts(double[] genes) {
+                if (genes.length != length) {
+                    return false;
+                }
+
+                for (double gene : genes) {
+                    // <= as the product may round up to the bound; false for NaN
+                    if (!(gene >= min && gene <= max + 1)) {
+                        return false;
+                    }
+                }
+
+                return true;
+            }
+        };
+    }
+
+    /**
+     * random bit strings of the given length
+     */
+    public static GenomeFactory<BitGenome> bits(int length) {
+        return new GenomeFactory<>() {
+            public BitGenome create(RandomGenerator random) {
+                return BitGenome.random(length, random);
+            }
+
+            public BitGenome copy(BitGenome genes) {
+                return genes.copy();
+            }
+
+            public boolean accepts(BitGenome genes) {
+                return genes.length() == length;
+            }
+        };
+    }
+
+}
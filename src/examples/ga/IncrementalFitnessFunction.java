@@ -0,0 +1,51 @@
+package examples.ga;
+
+/**
+ * Fitness function that decomposes over the genes: the fitness is
+ * fitness(score) where score is the sum of the contributions of every
+ * gene, geneScore(genes, i).
+ *
+ * With such a function the GA does not evaluate children from scratch: it
+ * derives the score of a child from the scores of its parents and the
+ * genes that changed (the swapped segment of a one point crossover, the
+ * mutated gene), so the cost of a generation is proportional to what
+ * changed, not to the length of the genome.
+ *
+ */
+public interface IncrementalFitnessFunction<G> extends FitnessFunction<G> {
+
+    /**
+     * number of genes of the genome
+     */
+    int length(G genes);
+
+    /**
+     * contribution of gene index to the score
+     */
+    double geneScore(G genes, int index);
+
+    /**
+     * sum of the contributions of the genes in [from, to); worth
+     * overriding when a segment can be summed faster than gene by gene
+     *
+     */
+    default double segmentScore(G genes, int from, int to) {
+        double score = 0.0;
+
+        for (int i = from; i < to; i++) {
+            score += geneScore(genes, i);
+        }
+
+        return score;
+    }
+
+    /**
+     * fitness of a genome with the given score
+     */
+    double fitness(double score);
+
+    default double evaluate(G genes) {
+        return fitness(segmentScore(genes, 0, length(genes)));
+    }
+
+}
@@ -0,0 +1,52 @@
+package examples.ga;
+
+/**
+ * Sorts population indices by fitness without boxing them.
+ */
+final class IndexSort {
+
+    private IndexSort() {
+    }
+
+    /**
+     * leaves in order[0..n) the indices 0..n-1 sorted by increasing key;
+     * equal keys keep their relative order. buffer is scratch space of at
+     * least n elements.
+     *
+     */
+    static void ascending(double[] keys, int n, int[] order, int[] buffer) {
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+
+        // bottom-up merge sort
+        int[] from = order;
+        int[] to = buffer;
+
+        for (int width = 1; width < n; width *= 2) {
+            for (int low = 0; low < n; low += 2 * width) {
+                int mid = Math.min(low + width, n);
+                int high = Math.min(low + 2 * width, n);
+                int i = low;
+                int j = mid;
+
+                for (int k = low; k < high; k++) {
+                    if (i < mid && (j >= high || keys[from[i]] <= keys[from[j]])) {
+                        to[k] = from[i++];
+                    } else {
+                        to[k] = from[j++];
+                    }
+                }
+            }
+
+            int[] aux = from;
+            from = to;
+            to = aux;
+        }
+
+        if (from != order) {
+            System.arraycopy(from, 0, order, 0, n);
+        }
+    }
+
+}
@@ -0,0 +1,30 @@
+package examples.ga;
+
+/**
+ * Number of ones of a bit string. Every bit contributes its value, and
+ * segments are counted a word at a time.
+ *
+ */
+public class MaxonesFitness implements IncrementalFitnessFunction<BitGenome> {
+
+    public int length(BitGenome genes) {
+        return genes.length();
+    }
+
+    public double geneScore(BitGenome genes, int index) {
+        return genes.get(index) ? 1.0 : 0.0;
+    }
+
+    public double segmentScore(BitGenome genes, int from, int to) {
+        return genes.cardinality(from, to);
+    }
+
+    public double fitness(double score) {
+        return score;
+    }
+
+    public double evaluate(BitGenome genes) {
+        return genes.cardinality();
+    }
+
+}
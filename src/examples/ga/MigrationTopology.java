@@ -0,0 +1,48 @@
+package examples.ga;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Who sends migrants to whom in an island model. Islands are numbered by
+ * their position in the list of islands.
+ *
+ */
+public enum MigrationTopology {
+
+    /**
+     * every island sends to the next one, the last one to the first
+     */
+    RING,
+
+    /**
+     * every island sends to all the others
+     */
+    FULL;
+
+    /**
+     * produces the positions of the islands that receive the migrants of
+     * island self
+     *
+     */
+    public List<Integer> neighbours(int self, int islands) {
+        List<Integer> result = new ArrayList<>();
+
+        if (islands < 2) {
+            return result;
+        }
+
+        if (this == RING) {
+            result.add((self + 1) % islands);
+        } else {
+            for (int i = 0; i < islands; i++) {
+                if (i != self) {
+                    result.add(i);
+                }
+            }
+        }
+
+        return result;
+    }
+
+}
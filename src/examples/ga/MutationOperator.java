@@ -0,0 +1,13 @@
+package examples.ga;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Mutates a child genome in place.
+ */
+@FunctionalInterface
+public interface MutationOperator<G> {
+
+    void mutate(G genes, RandomGenerator random);
+
+}
@@ -0,0 +1,61 @@
+package examples.ga;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Single gene mutations for the genome representations used by the agents.
+ * Each one picks a random position of the genome and changes its value
+ * in place.
+ *
+ */
+public final class Mutations {
+
+    private Mutations() {
+    }
+
+    /**
+     * replaces a random gene by a random integer in [0, bound)
+     */
+    public static PointMutation<int[]> randomResetInt(int bound) {
+        return new PointMutation<>() {
+            public int position(int[] genes, RandomGenerator random) {
+                return random.nextInt(genes.length);
+            }
+
+            public void mutateAt(int[] genes, int idx, RandomGenerator random) {
+                genes[idx] = random.nextInt(bound);
+            }
+        };
+    }
+
+    /**
+     * replaces a random gene by a random real in [min, max + 1)
+     */
+    public static PointMutation<double[]> randomResetDouble(double min, double max) {
+        return new PointMutation<>() {
+            public int position(double[] genes, RandomGenerator random) {
+                return random.nextInt(genes.length);
+            }
+
+            public void mutateAt(double[] genes, int idx, RandomGenerator random) {
+                genes[idx] = random.nextDouble() * (max - min + 1) + min;
+            }
+        };
+    }
+
+    /**
+     * flips a random bit in place
+     */
+    public static PointMutation<BitGenome> bitFlip() {
+        return new PointMutation<>() {
+            public int position(BitGenome genes, RandomGenerator random) {
+                return random.nextInt(genes.length());
+            }
+
+            public void mutateAt(BitGenome genes, int idx, RandomGenerator random) {
+                genes.flip(idx);
+            }
+        };
+    }
+
+}
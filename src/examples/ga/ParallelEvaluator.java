@@ -0,0 +1,115 @@
+package examples.ga;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Evaluates the individuals on a fork-join pool with the given degree of
+ * parallelism. Worth it when the fitness function is expensive or the
+ * population is big; groups smaller than the threshold are evaluated on
+ * the calling thread.
+ *
+ * The fitness function is called concurrently, so it must be thread-safe.
+ * The individual fitness values are computed in parallel but the total is
+ * summed afterwards in population order, so it is the same, bit for bit,
+ * as the sequential one whatever the scheduling.
+ *
+ */
+public class ParallelEvaluator implements FitnessEvaluator, AutoCloseable {
+
+    private static final int DEFAULT_THRESHOLD = 64;
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+
+    /**
+     * uses every available processor
+     */
+    public ParallelEvaluator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ParallelEvaluator(int parallelism) {
+        this(parallelism, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * threshold is the number of individuals below which a task is no
+     * longer split
+     *
+     */
+    public ParallelEvaluator(int parallelism, int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold must be positive: " + threshold);
+        }
+
+        this.pool = new ForkJoinPool(parallelism);
+        this.threshold = threshold;
+    }
+
+    public int getParallelism() {
+        return pool.getParallelism();
+    }
+
+    public <G> double evaluate(Population<G> individuals,
+            FitnessFunction<G> fitnessFunction) {
+        int n = individuals.size();
+
+        if (n <= threshold) {
+            evaluateRange(individuals, fitnessFunction, 0, n);
+        } else {
+            pool.invoke(new EvaluateTask<>(individuals, fitnessFunction, 0, n));
+        }
+
+        double totalFitness = 0.0;
+
+        for (int i = 0; i < n; i++) {
+            totalFitness += individuals.getFitness(i);
+        }
+
+        return totalFitness;
+    }
+
+    public void close() {
+        pool.shutdown();
+    }
+
+    private static <G> void evaluateRange(Population<G> individuals,
+            FitnessFunction<G> fitnessFunction, int from, int to) {
+        for (int i = from; i < to; i++) {
+            individuals.setFitness(i, fitnessFunction.evaluate(individuals.getGenes(i)));
+        }
+    }
+
+    private class EvaluateTask<G> extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Population<G> individuals;
+        private final FitnessFunction<G> fitnessFunction;
+        private final int from;
+        private final int to;
+
+        EvaluateTask(Population<G> individuals,
+                FitnessFunction<G> fitnessFunction, int from, int to) {
+            this.individuals = individuals;
+            this.fitnessFunction = fitnessFunction;
+            this.from = from;
+            this.to = to;
+        }
+
+        protected void compute() {
+            if (to - from <= threshold) {
+                evaluateRange(individuals, fitnessFunction, from, to);
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+
+            invokeAll(new EvaluateTask<>(individuals, fitnessFunction, from, mid),
+                new EvaluateTask<>(individuals, fitnessFunction, mid, to));
+        }
+
+    }
+
+}
@@ -0,0 +1,27 @@
+package examples.ga;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Mutation that changes a single gene. Choosing the gene and changing it
+ * are separate steps so the GA can update incremental fitness: it takes
+ * the gene's contribution out before the change and puts it back after.
+ *
+ */
+public interface PointMutation<G> extends MutationOperator<G> {
+
+    /**
+     * produces the index of the gene to mutate
+     */
+    int position(G genes, RandomGenerator random);
+
+    /**
+     * changes gene index in place
+     */
+    void mutateAt(G genes, int index, RandomGenerator random);
+
+    default void mutate(G genes, RandomGenerator random) {
+        mutateAt(genes, position(genes, random), random);
+    }
+
+}
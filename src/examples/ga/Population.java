@@ -0,0 +1,123 @@
+package examples.ga;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Fixed size population store. The genomes are allocated once, when the
+ * store is created, and recycled afterwards: operators write into them in
+ * place and survivors move between stores by swapping slots, never by
+ * copying or allocating. The fitness values live in a parallel primitive
+ * array that selection reads directly.
+ *
+ */
+public class Population<G> {
+
+    private final Object[] genes;
+    private final double[] fitness;
+    private final double[] score;
+
+    /**
+     * creates a store of the given size filled with random genomes
+     */
+    public Population(int size, GenomeFactory<G> factory, RandomGenerator random) {
+        genes = new Object[size];
+        fitness = new double[size];
+        score = new double[size];
+
+        for (int i = 0; i < size; i++) {
+            genes[i] = factory.create(random);
+        }
+    }
+
+    public int size() {
+        return fitness.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    public G getGenes(int i) {
+        return (G) genes[i];
+    }
+
+    /**
+     * puts a genome into slot i, the genome it held is dropped
+     */
+    public void setGenes(int i, G g) {
+        genes[i] = g;
+    }
+
+    public double getFitness(int i) {
+        return fitness[i];
+    }
+
+    public void setFitness(int i, double value) {
+        fitness[i] = value;
+    }
+
+    /**
+     * score of the individual for an IncrementalFitnessFunction
+     */
+    public double getScore(int i) {
+        return score[i];
+    }
+
+    public void setScore(int i, double value) {
+        score[i] = value;
+    }
+
+    /**
+     * the fitness of every slot, fitness()[i] belongs to getGenes(i)
+     */
+    double[] fitness() {
+        return fitness;
+    }
+
+    /**
+     * exchanges slot i of this store with slot j of other (which may be
+     * this store), genome, fitness and score alike
+     *
+     */
+    public void swap(int i, Population<G> other, int j) {
+        Object g = genes[i];
+        genes[i] = other.genes[j];
+        other.genes[j] = g;
+
+        double f = fitness[i];
+        fitness[i] = other.fitness[j];
+        other.fitness[j] = f;
+
+        double sc = score[i];
+        score[i] = other.score[j];
+        other.score[j] = sc;
+    }
+
+    /**
+     * produces the index of the individual with the highest fitness
+     */
+    public int best() {
+        int best = 0;
+
+        for (int i = 1; i < fitness.length; i++) {
+            if (fitness[i] > fitness[best]) {
+                best = i;
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * produces the index of the individual with the lowest fitness
+     */
+    public int worst() {
+        int worst = 0;
+
+        for (int i = 1; i < fitness.length; i++) {
+            if (fitness[i] < fitness[worst]) {
+                worst = i;
+            }
+        }
+
+        return worst;
+    }
+
+}
@@ -0,0 +1,163 @@
+package examples.ga;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Everything needed to run the GA on a problem: genome representation,
+ * fitness function, operators and the text codec used to exchange
+ * individuals between agents.
+ *
+ */
+public class Problem<G> {
+
+    private final String name;
+    private final GenomeFactory<G> factory;
+    private final FitnessFunction<G> fitnessFunction;
+    private final CrossoverOperator<G> crossover;
+    private final MutationOperator<G> mutation;
+    private final GenomeCodec<G> codec;
+    private final Supplier<SelectionOperator> selection;
+    private final Function<G, String> formatter;
+    private final Function<G, ?> cacheKey;
+    private String id;
+    private double targetFitness = Double.NaN;
+    private Predicate<G> solution;
+
+    /**
+     * selection is a supplier because selection operators keep per run
+     * buffers and must not be shared by concurrent runs; formatter shows
+     * a genome to people
+     *
+     */
+    public Problem(String name, GenomeFactory<G> factory,
+            FitnessFunction<G> fitnessFunction, CrossoverOperator<G> crossover,
+            MutationOperator<G> mutation, GenomeCodec<G> codec,
+            Supplier<SelectionOperator> selection, Function<G, String> formatter) {
+        this(name, factory, fitnessFunction, crossover, mutation, codec, selection,
+            formatter, null);
+    }
+
+    /**
+     * cacheKey gives the FitnessCache key of a genome, for problems with a
+     * discrete genome space
+     *
+     */
+    public Problem(String name, GenomeFactory<G> factory,
+            FitnessFunction<G> fitnessFunction, CrossoverOperator<G> crossover,
+            MutationOperator<G> mutation, GenomeCodec<G> codec,
+            Supplier<SelectionOperator> selection, Function<G, String> formatter,
+            Function<G, ?> cacheKey) {
+        this.name = name;
+        this.factory = factory;
+        this.fitnessFunction = fitnessFunction;
+        this.crossover = crossover;
+        this.mutation = mutation;
+        this.codec = codec;
+        this.selection = selection;
+        this.formatter = formatter;
+        this.cacheKey = cacheKey;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * the name with the parameters that change the genomes or their
+     * fitness, e.g. "maxones:1000"; the name if none has been set
+     *
+     */
+    public String getId() {
+        return id == null ? name : id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public GenomeFactory<G> getFactory() {
+        return factory;
+    }
+
+    public FitnessFunction<G> getFitnessFunction() {
+        return fitnessFunction;
+    }
+
+    public GenomeCodec<G> getCodec() {
+        return codec;
+    }
+
+    /**
+     * whether the genomes can be used with a FitnessCache
+     */
+    public boolean isCacheable() {
+        return cacheKey != null;
+    }
+
+    /**
+     * the fitness of an optimal individual, if known; the GAs created for
+     * the problem stop as soon as they reach it
+     *
+     */
+    public void setTargetFitness(double targetFitness) {
+        this.targetFitness = targetFitness;
+    }
+
+    /**
+     * produces the target fitness, NaN if there is none
+     */
+    public double getTargetFitness() {
+        return targetFitness;
+    }
+
+    /**
+     * tells the optimal individuals apart, for problems whose target
+     * fitness is also reached by other individuals; the GAs created for
+     * the problem stop as soon as their best individual is a solution
+     *
+     */
+    public void setSolution(Predicate<G> solution) {
+        this.solution = solution;
+    }
+
+    public String format(G genes) {
+        return formatter.apply(genes);
+    }
+
+    /**
+     * produces a GA for this problem with the problem's operators
+     */
+    public GeneticAlgorithm<G> createGA(int populationSize, int numberOfGenerations) {
+        GeneticAlgorithm<G> ga = new GeneticAlgorithm<>(populationSize, numberOfGenerations,
+            factory, fitnessFunction, crossover, mutation);
+        ga.setSelection(selection.get());
+
+        if (solution != null) {
+            ga.addStoppingCriterion(StoppingCriteria.solution(solution));
+        } else if (!Double.isNaN(targetFitness)) {
+            ga.addStoppingCriterion(StoppingCriteria.targetFitness(targetFitness));
+        }
+
+        return ga;
+    }
+
+    /**
+     * like createGA, with the fitness memoised in a FitnessCache of the
+     * given capacity
+     *
+     */
+    public GeneticAlgorithm<G> createCachedGA(int populationSize, int numberOfGenerations,
+            int cacheCapacity) {
+        if (cacheKey == null) {
+            throw new UnsupportedOperationException(name + " has no cache key");
+        }
+
+        GeneticAlgorithm<G> ga = createGA(populationSize, numberOfGenerations);
+        ga.cacheFitness(cacheCapacity, cacheKey);
+
+        return ga;
+    }
+
+}
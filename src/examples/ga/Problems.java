@@ -0,0 +1,134 @@
+package examples.ga;
+
+import examples.regression.ColumnarDataset;
+import examples.regression.Datasets;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+/**
+ * The problems solved by the GA agents, also available by name for agents
+ * that receive the problem to solve at run time.
+ *
+ */
+public final class Problems {
+
+    public static final String EQUATION = "equation";
+    public static final String MAXONES = "maxones";
+    public static final String SLR = "slr";
+
+    private static final int MAXONES_DEFAULT_LENGTH = 10;
+    private static final double SLR_MIN = 0;
+    private static final double SLR_MAX = 300;
+
+    private Problems() {
+    }
+
+    /**
+     * a + 2b - 3c + d + 4e = 30 with a..e in [0, 9]
+     */
+    public static Problem<int[]> equation() {
+        // the fitness can be negative, which the roulette cannot weigh
+        var problem = new Problem<>(EQUATION, Genomes.ints(5, 10), new EquationFitness(),
+            Crossovers.onePointInt(), Mutations.randomResetInt(10), Codecs.ints(),
+            () -> new TournamentSelection(3), Arrays::toString, EquationFitness::key);
+        problem.setTargetFitness(EquationFitness.TARGET);
+        // a left hand side of 61 scores the target too
+        problem.setSolution(EquationFitness::holds);
+
+        return problem;
+    }
+
+    /**
+     * maximise the number of ones of a bit string
+     */
+    public static Problem<BitGenome> maxones(int length) {
+        var problem = new Problem<>(MAXONES, Genomes.bits(length), new MaxonesFitness(),
+            Crossovers.onePointBits(), Mutations.bitFlip(), Codecs.bits(),
+            RouletteSelection::new, BitGenome::toString, BitGenome::copy);
+        problem.setId(MAXONES + ":" + length);
+        problem.setTargetFitness(length);
+
+        return problem;
+    }
+
+    /**
+     * line {beta_0, beta_1} closest to the {x, y} rows of the dataset
+     */
+    public static Problem<double[]> slr(double[][] dataset) {
+        return slr(new SLRFitness(dataset));
+    }
+
+    /**
+     * line {beta_0, beta_1} closest to the x (column 0) and y (column 1)
+     * of the dataset
+     *
+     */
+    public static Problem<double[]> slr(ColumnarDataset dataset) {
+        return slr(new SLRFitness(dataset));
+    }
+
+    private static Problem<double[]> slr(SLRFitness fitness) {
+        var problem = new Problem<>(SLR, Genomes.doubles(2, SLR_MIN, SLR_MAX), fitness,
+            Crossovers.onePointDouble(), Mutations.randomResetDouble(SLR_MIN, SLR_MAX),
+            Codecs.doubles(), RouletteSelection::new, Arrays::toString);
+        // the fitness depends on the dataset through its means only
+        problem.setId(SLR + ":" + fitness.getMeanX() + "," + fitness.getMeanY());
+
+        return problem;
+    }
+
+    /**
+     * produces the problem with the given id: "equation", "slr" (on the
+     * sample dataset), "slr:file" (on a ColumnarDataset file), "maxones"
+     * or "maxones:length"
+     *
+     */
+    public static Problem<?> byName(String id) {
+        String name = id;
+        String parameter = null;
+        int colon = id.indexOf(':');
+
+        if (colon >= 0) {
+            name = id.substring(0, colon);
+            parameter = id.substring(colon + 1);
+        }
+
+        switch (name) {
+            case EQUATION:
+                return equation();
+            case MAXONES:
+                return maxones(parameter == null ?
+                    MAXONES_DEFAULT_LENGTH : Integer.parseInt(parameter));
+            case SLR:
+                return parameter == null ? slr(Datasets.sample()) : slr(map(parameter));
+            default:
+                throw new IllegalArgumentException("unknown problem: " + id);
+        }
+    }
+
+    /**
+     * maps a dataset for slr, which reads x from column 0 and y from
+     * column 1 and needs two points at least
+     *
+     */
+    private static ColumnarDataset map(String file) {
+        ColumnarDataset dataset;
+
+        try {
+            dataset = ColumnarDataset.map(Path.of(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (dataset.columns() < 2 || dataset.rows() < 2) {
+            throw new IllegalArgumentException(file + ": expected at least 2 columns and " +
+                "2 rows, got " + dataset.columns() + " and " + dataset.rows());
+        }
+
+        return dataset;
+    }
+
+}
@@ -0,0 +1,34 @@
+package examples.ga;
+
+/**
+ * Hands out one independent SplitMix64 stream per worker, all derived from
+ * a single seed. Worker i always gets the same stream for the same seed,
+ * whatever thread or machine it runs on, so parallel and distributed runs
+ * can be reproduced and never share (or contend on) a generator.
+ *
+ */
+public final class RandomStreams {
+
+    private final SplitMix64[] streams;
+
+    public RandomStreams(long seed, int workers) {
+        SplitMix64 root = new SplitMix64(seed);
+        streams = new SplitMix64[workers];
+
+        for (int i = 0; i < workers; i++) {
+            streams[i] = root.split();
+        }
+    }
+
+    public int size() {
+        return streams.length;
+    }
+
+    /**
+     * the stream of the given worker, to be used by that worker only
+     */
+    public SplitMix64 stream(int worker) {
+        return streams[worker];
+    }
+
+}
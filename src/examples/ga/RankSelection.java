@@ -0,0 +1,94 @@
+package examples.ga;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Linear rank selection: the probability of an individual depends only on
+ * its rank, going linearly from (2 - s) / n for the worst to s / n for the
+ * best, where s in [1, 2] is the selection pressure. Negative fitness is
+ * fine and the scale of the fitness does not matter.
+ *
+ * Building the ranking is a sort of the population, O(n log n); every draw
+ * inverts the cumulative distribution in closed form, O(1). The
+ * buffers are reused between calls, so an instance must not be shared by
+ * concurrently running GAs.
+ *
+ */
+public class RankSelection implements SelectionOperator {
+
+    private final double pressure;
+    private int[] order = new int[0];
+    private int[] buffer = new int[0];
+
+    public RankSelection() {
+        this(1.5);
+    }
+
+    public RankSelection(double pressure) {
+        if (pressure < 1.0 || pressure > 2.0) {
+            throw new IllegalArgumentException("selection pressure must be in [1, 2]: " + pressure);
+        }
+
+        this.pressure = pressure;
+    }
+
+    public void select(double[] fitness, int[] chosen, RandomGenerator random) {
+        int n = fitness.length;
+
+        int count = chosen.length;
+
+        if (n == 1) {
+            Arrays.fill(chosen, 0);
+            return;
+        }
+
+        rank(fitness, n);
+
+        // the cumulative distribution is quadratic in the rank, so it is
+        // inverted in closed form and then fixed for rounding
+        double a = pressure - 1.0;
+        double b = 2.0 - pressure;
+
+        for (int i = 0; i < count; i++) {
+            double u = random.nextDouble();
+            double t = a == 0.0 ? u : (-b + Math.sqrt(b * b + 4.0 * a * u)) / (2.0 * a);
+            int r = Math.min(n - 1, (int) (t * n));
+
+            while (r < n - 1 && cumulative(r, n) <= u) {
+                r++;
+            }
+
+            while (r > 0 && cumulative(r - 1, n) > u) {
+                r--;
+            }
+
+            chosen[i] = order[r];
+        }
+    }
+
+    /**
+     * produces the probability of choosing an individual of rank r or
+     * lower (rank 0 is the worst)
+     *
+     */
+    private double cumulative(int r, int n) {
+        return ((r + 1) * (2.0 - pressure) +
+            (pressure - 1.0) * r * (r + 1.0) / (n - 1)) / n;
+    }
+
+    /**
+     * leaves in order[0..n) the indices of the population sorted from the
+     * worst to the best fitness
+     *
+     */
+    private void rank(double[] fitness, int n) {
+        if (order.length < n) {
+            order = new int[n];
+            buffer = new int[n];
+        }
+
+        IndexSort.ascending(fitness, n, order, buffer);
+    }
+
+}
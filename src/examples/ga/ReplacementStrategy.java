@@ -0,0 +1,29 @@
+package examples.ga;
+
+/**
+ * Survivor selection: decides which individuals form the next generation
+ * out of the current population and the (already evaluated) children.
+ * The next generation always has the size of the population, so the cost
+ * of a generation does not depend on how many generations have been run.
+ *
+ * Individuals are moved with Population.swap, which keeps every genome in
+ * exactly one slot of the three stores and allocates nothing.
+ *
+ */
+public interface ReplacementStrategy<G> {
+
+    /**
+     * number of children the strategy wants to be bred every generation
+     */
+    int offspringCount(int populationSize);
+
+    /**
+     * produces the next generation, either population itself updated in
+     * place or next (a spare store of the same size) filled with the
+     * survivors. The contents of the other stores are garbage afterwards.
+     *
+     */
+    Population<G> replace(Population<G> population, Population<G> children,
+        Population<G> next);
+
+}
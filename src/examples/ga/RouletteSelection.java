@@ -0,0 +1,70 @@
+package examples.ga;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Fitness proportionate selection: every individual gets a slice of the
+ * wheel as big as its share of the total fitness.
+ *
+ * The wheel is kept as an array of cumulative fitness, so building it is
+ * O(n) and every spin is a binary search, O(log n). Negative fitness is
+ * treated as zero; if nobody has positive fitness the choice is uniform.
+ * The array is reused between calls, so an instance must not be shared by
+ * concurrently running GAs.
+ *
+ */
+public class RouletteSelection implements SelectionOperator {
+
+    private double[] cumulative = new double[0];
+
+    public void select(double[] fitness, int[] chosen, RandomGenerator random) {
+        int n = fitness.length;
+
+        if (cumulative.length < n) {
+            cumulative = new double[n];
+        }
+
+        double total = 0.0;
+
+        for (int i = 0; i < n; i++) {
+            if (fitness[i] > 0.0) {
+                total += fitness[i];
+            }
+
+            cumulative[i] = total;
+        }
+
+        int count = chosen.length;
+
+        for (int i = 0; i < count; i++) {
+            if (total > 0.0) {
+                chosen[i] = spin(n, random.nextDouble() * total);
+            } else {
+                chosen[i] = random.nextInt(n);
+            }
+        }
+    }
+
+    /**
+     * produces the first index whose cumulative fitness is bigger than
+     * the spin, that is, the slice the spin falls in
+     *
+     */
+    private int spin(int n, double spin) {
+        int low = 0;
+        int high = n - 1;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+
+            if (cumulative[mid] > spin) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+
+        return low;
+    }
+
+}
@@ -0,0 +1,87 @@
+package examples.ga;
+
+import examples.regression.ColumnarDataset;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * Fitness of a line y = ind[0] + ind[1] * x against a dataset of {x, y}
+ * rows: 100 minus a hundredth of the mean error, truncated to an integer.
+ *
+ * The mean error is linear in the genes,
+ *
+ *   mean(y - (ind[0] + ind[1] * x)) = mean(y) - ind[0] - ind[1] * mean(x)
+ *
+ * so the means are taken once, when the fitness is created, and each
+ * evaluation is O(1) whatever the size of the dataset. The score is the
+ * part that depends on the genes, -ind[0] - ind[1] * mean(x).
+ *
+ */
+public class SLRFitness implements IncrementalFitnessFunction<double[]> {
+
+    private final double meanX;
+    private final double meanY;
+
+    public SLRFitness(double[][] dataset) {
+        double sumX = 0.0;
+        double sumY = 0.0;
+
+        for (int i = 0; i < dataset.length; i++) {
+            sumX += dataset[i][0];
+            sumY += dataset[i][1];
+        }
+
+        meanX = sumX / dataset.length;
+        meanY = sumY / dataset.length;
+    }
+
+    /**
+     * reads x from column 0 and y from column 1 of the dataset, in place
+     */
+    public SLRFitness(ColumnarDataset dataset) {
+        DoubleBuffer x = dataset.column(0);
+        DoubleBuffer y = dataset.column(1);
+        int n = dataset.rows();
+        double sumX = 0.0;
+        double sumY = 0.0;
+
+        for (int i = 0; i < n; i++) {
+            sumX += x.get(i);
+            sumY += y.get(i);
+        }
+
+        meanX = sumX / n;
+        meanY = sumY / n;
+    }
+
+    public double getMeanX() {
+        return meanX;
+    }
+
+    public double getMeanY() {
+        return meanY;
+    }
+
+    public int length(double[] ind) {
+        return 2;
+    }
+
+    public double geneScore(double[] ind, int index) {
+        return index == 0 ? -ind[0] : -ind[1] * meanX;
+    }
+
+    public double fitness(double score) {
+        double error = Math.abs(meanY + score);
+        double fitness = 0;
+
+        error = error / 100.0;
+        fitness = Math.abs(100.0 - error);
+
+        return (int) fitness;
+    }
+
+    public double evaluate(double[] ind) {
+        return fitness(-ind[0] - ind[1] * meanX);
+    }
+
+}
@@ -0,0 +1,19 @@
+package examples.ga;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Chooses the parents of the next generation.
+ *
+ * Receives the fitness of every individual (fitness[i] belongs to the i-th
+ * member of the population) and fills chosen with indices into the
+ * population. The array is reused by the GA from one generation to the
+ * next.
+ *
+ */
+@FunctionalInterface
+public interface SelectionOperator {
+
+    void select(double[] fitness, int[] chosen, RandomGenerator random);
+
+}
@@ -0,0 +1,22 @@
+package examples.ga;
+
+/**
+ * Evaluates the individuals one after the other on the calling thread.
+ */
+public class SequentialEvaluator implements FitnessEvaluator {
+
+    public <G> double evaluate(Population<G> individuals,
+            FitnessFunction<G> fitnessFunction) {
+        double totalFitness = 0.0;
+
+        for (int i = 0; i < individuals.size(); i++) {
+            double indFitness = fitnessFunction.evaluate(individuals.getGenes(i));
+            individuals.setFitness(i, indFitness);
+
+            totalFitness += indFitness;
+        }
+
+        return totalFitness;
+    }
+
+}
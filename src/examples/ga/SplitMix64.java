@@ -0,0 +1,105 @@
+package examples.ga;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+/**
+ * SplitMix64 pseudo random generator, the algorithm behind
+ * java.util.SplittableRandom, with its state made visible.
+ *
+ * An instance is not thread-safe and is meant to be owned by a single
+ * thread: it has no synchronisation at all, unlike java.util.Random or
+ * Math.random(). Independent streams for other threads or other runs are
+ * obtained with split(), and a run is reproduced by starting from the same
+ * seed. The state is two longs, so it can be saved and restored.
+ *
+ */
+public final class SplitMix64 implements RandomGenerator {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    // seeds the unseeded generators, so that two of them never share a
+    // stream however close in time they are created
+    private static final AtomicLong SEEDER = new AtomicLong(
+        mix64(System.currentTimeMillis()) ^ mix64(System.nanoTime()));
+
+    private long seed;
+    private final long gamma;
+
+    /**
+     * produces a generator with an unpredictable seed, distinct from the
+     * other generators created this way
+     *
+     */
+    public SplitMix64() {
+        long s = SEEDER.getAndAdd(2 * GOLDEN_GAMMA);
+
+        this.seed = mix64(s);
+        this.gamma = mixGamma(s + GOLDEN_GAMMA);
+    }
+
+    public SplitMix64(long seed) {
+        this(seed, GOLDEN_GAMMA);
+    }
+
+    /**
+     * restores a generator from its state, gamma must be odd
+     */
+    public SplitMix64(long seed, long gamma) {
+        if ((gamma & 1) == 0) {
+            throw new IllegalArgumentException("gamma must be odd: " + gamma);
+        }
+
+        this.seed = seed;
+        this.gamma = gamma;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getGamma() {
+        return gamma;
+    }
+
+    public long nextLong() {
+        return mix64(nextSeed());
+    }
+
+    public int nextInt() {
+        return mix32(nextSeed());
+    }
+
+    /**
+     * produces a new generator, statistically independent of this one,
+     * and advances this one
+     *
+     */
+    public SplitMix64 split() {
+        return new SplitMix64(nextLong(), mixGamma(nextSeed()));
+    }
+
+    private long nextSeed() {
+        return seed += gamma;
+    }
+
+    private static long mix64(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int mix32(long z) {
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+
+    private static long mixGamma(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        int n = Long.bitCount(z ^ (z >>> 1));
+        return (n < 24) ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+
+}
@@ -0,0 +1,37 @@
+package examples.ga;
+
+/**
+ * Steady-state replacement: only a few children are bred per generation
+ * and each of them takes the place of the current worst individual.
+ *
+ */
+public class SteadyStateReplacement<G> implements ReplacementStrategy<G> {
+
+    private final int replacements;
+
+    public SteadyStateReplacement() {
+        this(2);
+    }
+
+    public SteadyStateReplacement(int replacements) {
+        if (replacements <= 0) {
+            throw new IllegalArgumentException("replacements must be positive: " + replacements);
+        }
+
+        this.replacements = replacements;
+    }
+
+    public int offspringCount(int populationSize) {
+        return Math.min(replacements, populationSize);
+    }
+
+    public Population<G> replace(Population<G> population, Population<G> children,
+            Population<G> next) {
+        for (int i = 0; i < children.size(); i++) {
+            population.swap(population.worst(), children, i);
+        }
+
+        return population;
+    }
+
+}
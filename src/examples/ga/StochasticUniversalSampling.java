@@ -0,0 +1,64 @@
+package examples.ga;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Stochastic universal sampling: fitness proportionate like the roulette,
+ * but all parents come from a single spin of a wheel with count equally
+ * spaced pointers. This gives the minimum spread around the expected
+ * number of copies of each individual and needs one pass over the
+ * population in total, not one search per parent.
+ *
+ * Negative fitness is treated as zero; if nobody has positive fitness the
+ * choice is uniform. The chosen parents are shuffled so that mating them
+ * two by two does not pair neighbours of the wheel.
+ *
+ */
+public class StochasticUniversalSampling implements SelectionOperator {
+
+    public void select(double[] fitness, int[] chosen, RandomGenerator random) {
+        int n = fitness.length;
+        int count = chosen.length;
+        double total = 0.0;
+
+        for (int i = 0; i < n; i++) {
+            if (fitness[i] > 0.0) {
+                total += fitness[i];
+            }
+        }
+
+        if (total <= 0.0) {
+            for (int i = 0; i < count; i++) {
+                chosen[i] = random.nextInt(n);
+            }
+
+            return;
+        }
+
+        double step = total / count;
+        double pointer = random.nextDouble() * step;
+        double cumulative = 0.0;
+        int individual = -1;
+
+        for (int i = 0; i < count; i++) {
+            while (cumulative <= pointer && individual < n - 1) {
+                individual++;
+
+                if (fitness[individual] > 0.0) {
+                    cumulative += fitness[individual];
+                }
+            }
+
+            chosen[i] = individual;
+            pointer += step;
+        }
+
+        for (int i = count - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int aux = chosen[i];
+            chosen[i] = chosen[j];
+            chosen[j] = aux;
+        }
+    }
+
+}
@@ -0,0 +1,86 @@
+package examples.ga;
+
+import java.util.function.Predicate;
+
+/**
+ * The usual stopping criteria.
+ */
+public final class StoppingCriteria {
+
+    private StoppingCriteria() {
+    }
+
+    /**
+     * met once the best fitness found reaches target
+     */
+    public static StoppingCriterion targetFitness(double target) {
+        return ga -> ga.getBestGlobalFitness() >= target;
+    }
+
+    /**
+     * met once the best individual of the population is a solution, for
+     * problems whose best fitness is also reached by individuals that are
+     * not solutions
+     *
+     */
+    @SuppressWarnings("unchecked")
+    public static <G> StoppingCriterion solution(Predicate<? super G> isSolution) {
+        return ga -> {
+            var population = (Population<G>) ga.getPopulation();
+
+            return isSolution.test(population.getGenes(population.best()));
+        };
+    }
+
+    /**
+     * met when the best fitness found has not improved for the given
+     * number of generations
+     *
+     */
+    public static StoppingCriterion stagnation(int generations) {
+        if (generations < 1) {
+            throw new IllegalArgumentException("generations must be positive: " + generations);
+        }
+
+        return new StoppingCriterion() {
+
+            private double best;
+            private int improvedAt;
+
+            public void start(GeneticAlgorithm<?> ga) {
+                best = ga.getBestGlobalFitness();
+                improvedAt = ga.getGeneration();
+            }
+
+            public boolean isMet(GeneticAlgorithm<?> ga) {
+                if (ga.getBestGlobalFitness() > best) {
+                    best = ga.getBestGlobalFitness();
+                    improvedAt = ga.getGeneration();
+                }
+
+                return ga.getGeneration() - improvedAt >= generations;
+            }
+
+        };
+    }
+
+    /**
+     * met once the given time has passed since the run was initialized
+     */
+    public static StoppingCriterion wallClock(long millis) {
+        return new StoppingCriterion() {
+
+            private long deadline;
+
+            public void start(GeneticAlgorithm<?> ga) {
+                deadline = System.nanoTime() + millis * 1_000_000L;
+            }
+
+            public boolean isMet(GeneticAlgorithm<?> ga) {
+                return System.nanoTime() - deadline >= 0;
+            }
+
+        };
+    }
+
+}
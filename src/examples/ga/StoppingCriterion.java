@@ -0,0 +1,22 @@
+package examples.ga;
+
+/**
+ * Condition on which a GA run stops before its last generation, e.g. when
+ * it has found an optimal individual or stopped improving (see
+ * StoppingCriteria).
+ *
+ */
+public interface StoppingCriterion {
+
+    /**
+     * called when the run is initialized, does nothing by default
+     */
+    default void start(GeneticAlgorithm<?> ga) {
+    }
+
+    /**
+     * checked after every generation; must not change the run
+     */
+    boolean isMet(GeneticAlgorithm<?> ga);
+
+}
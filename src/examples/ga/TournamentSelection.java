@@ -0,0 +1,43 @@
+package examples.ga;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * k-tournament selection: every parent is the fittest of k individuals
+ * drawn uniformly at random (with replacement). Only fitness comparisons
+ * are made, so negative fitness is fine and no pass over the whole
+ * population is needed: a draw costs O(k).
+ *
+ */
+public class TournamentSelection implements SelectionOperator {
+
+    private final int size;
+
+    public TournamentSelection(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("tournament size must be positive: " + size);
+        }
+
+        this.size = size;
+    }
+
+    public void select(double[] fitness, int[] chosen, RandomGenerator random) {
+        int n = fitness.length;
+        int count = chosen.length;
+
+        for (int i = 0; i < count; i++) {
+            int winner = random.nextInt(n);
+
+            for (int j = 1; j < size; j++) {
+                int contender = random.nextInt(n);
+
+                if (fitness[contender] > fitness[winner]) {
+                    winner = contender;
+                }
+            }
+
+            chosen[i] = winner;
+        }
+    }
+
+}
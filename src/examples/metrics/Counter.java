@@ -0,0 +1,48 @@
+package examples.metrics;
+
+/**
+ * Count of events (generations, iterations, allocated bytes...) and its
+ * rate since the counter was created or reset. Updated by the thread that
+ * runs the loop, read by any thread like a PhaseTimer.
+ *
+ */
+public class Counter {
+
+    private final String name;
+    private long count;
+    private long since = System.nanoTime();
+
+    Counter(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void increment() {
+        count++;
+    }
+
+    public void add(long amount) {
+        count += amount;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * produces the count per second since the counter was created or reset
+     */
+    public double getRate() {
+        double seconds = (System.nanoTime() - since) / 1e9;
+        return seconds <= 0.0 ? 0.0 : count / seconds;
+    }
+
+    void reset() {
+        count = 0;
+        since = System.nanoTime();
+    }
+
+}
@@ -0,0 +1,179 @@
+package examples.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Registry of the phase timers and counters of an agent or a loop. The
+ * instrumented code keeps the timers and counters it needs in fields
+ * (they are created once, by name) and updates them directly, so a
+ * measurement costs a System.nanoTime() and a few additions.
+ *
+ * publish() makes the registry visible from outside the process: as the
+ * MBean examples:type=Metrics,name=... (JConsole, jcmd) and in the
+ * periodic examples.Throughput JFR events. Phase timers also emit
+ * examples.Phase JFR events when a recording enables them.
+ *
+ */
+public class Metrics implements AutoCloseable {
+
+    private static final List<Metrics> published = new CopyOnWriteArrayList<>();
+    // null if the JVM cannot count the bytes allocated by a thread
+    private static final com.sun.management.ThreadMXBean threads = threads();
+    private static boolean hooked;
+
+    private final String name;
+    private final Map<String, PhaseTimer> timers = new LinkedHashMap<>();
+    private final Map<String, Counter> counters = new LinkedHashMap<>();
+    private ObjectName objectName;
+
+    public Metrics(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * produces the timer of the given phase, created the first time
+     */
+    public synchronized PhaseTimer timer(String phase) {
+        return timers.computeIfAbsent(phase, p -> new PhaseTimer(this, p));
+    }
+
+    /**
+     * produces the counter with the given name, created the first time
+     */
+    public synchronized Counter counter(String counter) {
+        return counters.computeIfAbsent(counter, Counter::new);
+    }
+
+    public synchronized List<PhaseTimer> getTimers() {
+        return new ArrayList<>(timers.values());
+    }
+
+    public synchronized List<Counter> getCounters() {
+        return new ArrayList<>(counters.values());
+    }
+
+    /**
+     * sets every timer and counter back to zero
+     */
+    public synchronized void reset() {
+        timers.values().forEach(PhaseTimer::reset);
+        counters.values().forEach(Counter::reset);
+    }
+
+    /**
+     * produces the number of bytes allocated so far by the calling thread,
+     * or -1 if the JVM cannot tell; the difference between two calls is
+     * what the thread allocated in between
+     *
+     */
+    public static long allocatedBytes() {
+        return threads == null ? -1 : threads.getCurrentThreadAllocatedBytes();
+    }
+
+    private static com.sun.management.ThreadMXBean threads() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            var sunThreads = (com.sun.management.ThreadMXBean) threads;
+
+            if (sunThreads.isThreadAllocatedMemorySupported() &&
+                    sunThreads.isThreadAllocatedMemoryEnabled()) {
+                return sunThreads;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * registers the MBean and the JFR throughput events; undone by close()
+     */
+    public synchronized void publish() throws JMException {
+        if (objectName != null) {
+            return;
+        }
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName on = new ObjectName("examples:type=Metrics,name=" + ObjectName.quote(name));
+
+        server.registerMBean(new MetricsMBean(this), on);
+        objectName = on;
+        published.add(this);
+        hookThroughputEvents();
+    }
+
+    private static synchronized void hookThroughputEvents() {
+        if (!hooked) {
+            FlightRecorder.addPeriodicEvent(ThroughputEvent.class, Metrics::emitThroughput);
+            hooked = true;
+        }
+    }
+
+    private static void emitThroughput() {
+        for (Metrics metrics : published) {
+            for (Counter counter : metrics.getCounters()) {
+                ThroughputEvent event = new ThroughputEvent();
+                event.source = metrics.name;
+                event.counter = counter.getName();
+                event.count = counter.getCount();
+                event.rate = counter.getRate();
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * unregisters what publish() registered
+     */
+    public synchronized void close() {
+        if (objectName == null) {
+            return;
+        }
+
+        published.remove(this);
+
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch (JMException e) {
+            System.err.println("Error: " + e);
+        }
+
+        objectName = null;
+    }
+
+    /**
+     * produces a one line summary, e.g. for the end of a run
+     */
+    public String summary() {
+        StringBuilder summary = new StringBuilder(name);
+
+        for (PhaseTimer timer : getTimers()) {
+            summary.append(String.format(" %s=%.3fms", timer.getName(),
+                timer.getTotalNanos() / 1e6));
+        }
+
+        for (Counter counter : getCounters()) {
+            summary.append(String.format(" %s=%d (%.1f/s)", counter.getName(),
+                counter.getCount(), counter.getRate()));
+        }
+
+        return summary.toString();
+    }
+
+}
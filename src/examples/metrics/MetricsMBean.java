@@ -0,0 +1,125 @@
+package examples.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.ReflectionException;
+
+/**
+ * Read only view of a Metrics as JMX attributes: for every phase timer
+ * "phase.count", "phase.totalMillis", "phase.meanMicros" and
+ * "phase.maxMicros", for every counter "counter" and "counter.perSecond".
+ * The attributes follow the timers and counters created after the MBean
+ * was registered. The operation "reset" zeroes everything.
+ *
+ */
+class MetricsMBean implements DynamicMBean {
+
+    private final Metrics metrics;
+
+    MetricsMBean(Metrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+        for (PhaseTimer timer : metrics.getTimers()) {
+            String prefix = timer.getName() + ".";
+
+            if (attribute.startsWith(prefix)) {
+                switch (attribute.substring(prefix.length())) {
+                    case "count":
+                        return timer.getCount();
+                    case "totalMillis":
+                        return timer.getTotalNanos() / 1e6;
+                    case "meanMicros":
+                        return timer.getMeanNanos() / 1e3;
+                    case "maxMicros":
+                        return timer.getMaxNanos() / 1e3;
+                    default:
+                        break;
+                }
+            }
+        }
+
+        for (Counter counter : metrics.getCounters()) {
+            if (attribute.equals(counter.getName())) {
+                return counter.getCount();
+            }
+
+            if (attribute.equals(counter.getName() + ".perSecond")) {
+                return counter.getRate();
+            }
+        }
+
+        throw new AttributeNotFoundException(attribute);
+    }
+
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException(attribute.getName() + " is read only");
+    }
+
+    public AttributeList getAttributes(String[] attributes) {
+        AttributeList list = new AttributeList();
+
+        for (String attribute : attributes) {
+            try {
+                list.add(new Attribute(attribute, getAttribute(attribute)));
+            } catch (AttributeNotFoundException e) {
+                // left out, as the JMX contract asks
+            }
+        }
+
+        return list;
+    }
+
+    public AttributeList setAttributes(AttributeList attributes) {
+        return new AttributeList();
+    }
+
+    public Object invoke(String actionName, Object[] params, String[] signature)
+            throws ReflectionException {
+        if (actionName.equals("reset")) {
+            metrics.reset();
+            return null;
+        }
+
+        throw new ReflectionException(new NoSuchMethodException(actionName));
+    }
+
+    public MBeanInfo getMBeanInfo() {
+        List<MBeanAttributeInfo> attributes = new ArrayList<>();
+
+        for (PhaseTimer timer : metrics.getTimers()) {
+            String phase = timer.getName();
+
+            attributes.add(attribute(phase + ".count", "long", "times the phase ran"));
+            attributes.add(attribute(phase + ".totalMillis", "double", "total time in the phase"));
+            attributes.add(attribute(phase + ".meanMicros", "double", "mean time of the phase"));
+            attributes.add(attribute(phase + ".maxMicros", "double", "longest time of the phase"));
+        }
+
+        for (Counter counter : metrics.getCounters()) {
+            attributes.add(attribute(counter.getName(), "long", "count"));
+            attributes.add(attribute(counter.getName() + ".perSecond", "double", "rate"));
+        }
+
+        MBeanOperationInfo reset = new MBeanOperationInfo("reset", "zeroes the metrics",
+            null, "void", MBeanOperationInfo.ACTION);
+
+        return new MBeanInfo(Metrics.class.getName(), "Metrics of " + metrics.getName(),
+            attributes.toArray(new MBeanAttributeInfo[0]), null,
+            new MBeanOperationInfo[] { reset }, null);
+    }
+
+    private static MBeanAttributeInfo attribute(String name, String type, String description) {
+        return new MBeanAttributeInfo(name, type, description, true, false, false);
+    }
+
+}
@@ -0,0 +1,59 @@
+package examples.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event of one run of a phase timed by a PhaseTimer. There is one per
+ * phase of every generation, so it is disabled by default, even in the
+ * default and profile settings; enable "examples.Phase" in the recording
+ * settings, e.g.
+ *
+ *   java -XX:StartFlightRecording:+examples.Phase#enabled=true ...
+ *
+ */
+@Name("examples.Phase")
+@Label("Phase")
+@Category({"Examples", "Metrics"})
+@Enabled(false)
+@StackTrace(false)
+class PhaseEvent extends Event {
+
+    // null if the JVM has no flight recorder
+    private static final EventType TYPE = type();
+
+    @Label("Source")
+    String source;
+
+    @Label("Phase")
+    String phase;
+
+    // not "duration", which JFR reserves for begin() / end() events
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+
+    private static EventType type() {
+        try {
+            return EventType.getEventType(PhaseEvent.class);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * true if a recording takes these events, cheaper than creating one
+     * to ask
+     *
+     */
+    static boolean enabled() {
+        return TYPE != null && TYPE.isEnabled();
+    }
+
+}
@@ -0,0 +1,87 @@
+package examples.metrics;
+
+/**
+ * Time spent in a phase of a loop (e.g. the selection of a GA generation):
+ * how many times it ran, the total and the longest time. Updated by the
+ * thread that runs the loop; other threads (JMX) read it without locking,
+ * so what they see may lag by an update.
+ *
+ */
+public class PhaseTimer {
+
+    private final Metrics metrics;
+    private final String name;
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+
+    PhaseTimer(Metrics metrics, String name) {
+        this.metrics = metrics;
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * produces the mean time of the phase, 0 if it never ran
+     */
+    public double getMeanNanos() {
+        long n = count;
+        return n == 0 ? 0.0 : (double) totalNanos / n;
+    }
+
+    /**
+     * produces the start time of the phase, to be given to stop
+     */
+    public long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * ends the phase started at start and produces the current time, so
+     * the next phase can start from it
+     *
+     */
+    public long stop(long start) {
+        long now = System.nanoTime();
+        long elapsed = now - start;
+
+        count++;
+        totalNanos += elapsed;
+
+        if (elapsed > maxNanos) {
+            maxNanos = elapsed;
+        }
+
+        if (PhaseEvent.enabled()) {
+            PhaseEvent event = new PhaseEvent();
+            event.source = metrics.getName();
+            event.phase = name;
+            event.elapsed = elapsed;
+            event.commit();
+        }
+
+        return now;
+    }
+
+    void reset() {
+        count = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+    }
+
+}
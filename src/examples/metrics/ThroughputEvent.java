@@ -0,0 +1,34 @@
+package examples.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+
+/**
+ * Periodic JFR event with the count and rate of every counter of every
+ * published Metrics, e.g. the generations per second of a GA agent.
+ *
+ */
+@Name("examples.Throughput")
+@Label("Throughput")
+@Category({"Examples", "Metrics"})
+@Period("1 s")
+@StackTrace(false)
+class ThroughputEvent extends Event {
+
+    @Label("Source")
+    String source;
+
+    @Label("Counter")
+    String counter;
+
+    @Label("Count")
+    long count;
+
+    @Label("Per Second")
+    double rate;
+
+}
@@ -0,0 +1,60 @@
+package examples.optim;
+
+/**
+ * Adam: every parameter gets its own step size from running estimates of
+ * the mean (first moment) and the uncentered variance (second moment) of
+ * its gradient, corrected for their bias towards zero at the start.
+ *
+ */
+public class Adam implements UpdateRule {
+
+	private final double rate;
+	private final double beta1;
+	private final double beta2;
+	private final double epsilon;
+	private double[] m = new double[0];
+	private double[] v = new double[0];
+	// beta1^t and beta2^t
+	private double beta1Power;
+	private double beta2Power;
+
+	public Adam(double rate) {
+		this(rate, 0.9, 0.999, 1e-8);
+	}
+
+	public Adam(double rate, double beta1, double beta2, double epsilon) {
+		if (beta1 < 0.0 || beta1 >= 1.0 || beta2 < 0.0 || beta2 >= 1.0) {
+			throw new IllegalArgumentException("beta1 and beta2 must be in [0, 1)");
+		}
+
+		this.rate = rate;
+		this.beta1 = beta1;
+		this.beta2 = beta2;
+		this.epsilon = epsilon;
+	}
+
+	public void reset(int dimension) {
+		m = new double[dimension];
+		v = new double[dimension];
+		beta1Power = 1.0;
+		beta2Power = 1.0;
+	}
+
+	public void step(Objective objective, double[] x, double value,
+			double[] gradient, int iteration) {
+		beta1Power *= beta1;
+		beta2Power *= beta2;
+
+		double correction1 = 1.0 - beta1Power;
+		double correction2 = 1.0 - beta2Power;
+
+		for (int i = 0; i < x.length; i++) {
+			double g = gradient[i];
+
+			m[i] = beta1 * m[i] + (1.0 - beta1) * g;
+			v[i] = beta2 * v[i] + (1.0 - beta2) * g * g;
+			x[i] -= rate * (m[i] / correction1) / (Math.sqrt(v[i] / correction2) + epsilon);
+		}
+	}
+
+}
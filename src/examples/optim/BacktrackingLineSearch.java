@@ -0,0 +1,62 @@
+package examples.optim;
+
+/**
+ * Steepest descent with a backtracking line search: starting from the
+ * initial step, the step along -gradient is shrunk until it decreases f
+ * enough (the Armijo condition f(x - t g) <= f(x) - c t |g|^2). No step
+ * size has to be tuned, at the price of extra evaluations of f.
+ *
+ */
+public class BacktrackingLineSearch implements UpdateRule {
+
+	private static final int MAX_HALVINGS = 60;
+
+	private final double initialStep;
+	private final double shrink;
+	private final double c;
+	private double[] candidate = new double[0];
+
+	public BacktrackingLineSearch() {
+		this(1.0, 0.5, 1e-4);
+	}
+
+	public BacktrackingLineSearch(double initialStep, double shrink, double c) {
+		if (shrink <= 0.0 || shrink >= 1.0) {
+			throw new IllegalArgumentException("shrink must be in (0, 1): " + shrink);
+		}
+
+		this.initialStep = initialStep;
+		this.shrink = shrink;
+		this.c = c;
+	}
+
+	public void reset(int dimension) {
+		candidate = new double[dimension];
+	}
+
+	public void step(Objective objective, double[] x, double value,
+			double[] gradient, int iteration) {
+		double squaredNorm = 0.0;
+
+		for (double g : gradient) {
+			squaredNorm += g * g;
+		}
+
+		double t = initialStep;
+
+		for (int k = 0; k < MAX_HALVINGS; k++) {
+			for (int i = 0; i < x.length; i++) {
+				candidate[i] = x[i] - t * gradient[i];
+			}
+
+			if (objective.value(candidate) <= value - c * t * squaredNorm) {
+				break;
+			}
+
+			t *= shrink;
+		}
+
+		System.arraycopy(candidate, 0, x, 0, x.length);
+	}
+
+}
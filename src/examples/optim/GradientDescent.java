@@ -0,0 +1,149 @@
+package examples.optim;
+
+import examples.metrics.Metrics;
+import examples.telemetry.ConsoleSink;
+import examples.telemetry.Telemetry;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Implements Gradient Descent algorithm for function f(x) = x^2
+ * with bounds [-1, 1], on a GradientOptimizer. The iterations are
+ * reported through a Telemetry, so while the run lasts the table is
+ * formatted and printed off the optimizing thread. The rows still queued
+ * when it ends (the whole table for a short run) are printed by
+ * calculate() before it returns. Every row is printed: if the ring fills
+ * up, the optimizing thread prints the queued rows itself.
+ *
+ */
+public class GradientDescent {
+	private static final String[] COLUMNS = {"x value", "f(x)"};
+	// the ring holds the whole run up to this many iterations
+	private static final int MAX_CAPACITY = 1 << 16;
+	private static final long PERIOD_MILLIS = 100;
+
+	private GradientOptimizer optimizer;
+	private final int nIter;
+	private PrintStream out;
+	private Telemetry telemetry;
+	private final double[] record = new double[COLUMNS.length];
+
+	public GradientDescent(double stepSize, int nIter) {
+		this(stepSize, nIter, System.out);
+	}
+
+	/**
+	 * the result of each iteration is shown on out
+	 */
+	public GradientDescent(double stepSize, int nIter, PrintStream out) {
+		this(new Sgd(stepSize), nIter, out);
+	}
+
+	/**
+	 * moves x with the given rule (see UpdateRules)
+	 */
+	public GradientDescent(UpdateRule rule, int nIter, PrintStream out) {
+		this.optimizer = new GradientOptimizer(rule, nIter);
+		this.nIter = nIter;
+		this.out = out;
+		optimizer.setListener((i, x, value) -> {
+			record[0] = x[0];
+			record[1] = value;
+			telemetry.recordOrDrain(i, record);
+		});
+	}
+
+	/**
+	 * measures the iterations in metrics (see GradientOptimizer)
+	 */
+	public void setMetrics(Metrics metrics) {
+		optimizer.setMetrics(metrics);
+	}
+
+	/**
+	 * stops as soon as |f'(x)| falls to tolerance
+	 */
+	public void setTolerance(double tolerance) {
+		optimizer.addStoppingCriterion(StoppingCriteria.gradientNorm(tolerance));
+	}
+
+	/**
+	 * stops the iterations as soon as criterion is met
+	 */
+	public void addStoppingCriterion(StoppingCriterion criterion) {
+		optimizer.addStoppingCriterion(criterion);
+	}
+
+	/**
+	 * double -> double
+	 *
+	 * produces the square of parameter x
+	 * this is f(x) = x^2
+	 *
+	 */
+	private double objective(double x) {
+		return x * x;
+	}
+
+	/**
+	 * double -> double
+	 *
+	 * produces the result of multiplying x by 2
+	 * this is the derivative of f(x)
+	 * f'(x) = 2x
+	 *
+	 */
+	private double derivative(double x) {
+		return 2 * x;
+	}
+
+	/**
+	 * shows the result obtained from each iteration of the
+	 * gradient descent algorithm and produces the minimum found
+	 *
+	 */
+	public Minimum calculate() {
+		double leftBound = -1.0;
+		double rightBound = 1.0;
+
+		// initialize to a random number in the range [-1, 1]
+		double solution = leftBound + (Math.random() *
+			(rightBound - leftBound));
+
+		try {
+			telemetry = new Telemetry("gradient-descent", "n_iter", COLUMNS,
+				Math.max(1, Math.min(nIter, MAX_CAPACITY)), PERIOD_MILLIS,
+				new ConsoleSink(out));
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		try {
+			return optimizer.minimize(new X2(), new double[] { solution });
+		} finally {
+			telemetry.close();
+		}
+	}
+
+	/**
+	 * f(x) = x^2 as an Objective
+	 */
+	private class X2 implements Objective {
+
+		public int dimension() {
+			return 1;
+		}
+
+		public double value(double[] x) {
+			return objective(x[0]);
+		}
+
+		public void gradient(double[] x, double[] gradient) {
+			gradient[0] = derivative(x[0]);
+		}
+
+	}
+
+}
@@ -0,0 +1,120 @@
+package examples.optim;
+
+import examples.metrics.Counter;
+import examples.metrics.Metrics;
+import examples.metrics.PhaseTimer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimizes an Objective from a starting point, moving the parameters with
+ * a pluggable UpdateRule (Sgd, Momentum, Nesterov, Adam,
+ * BacktrackingLineSearch).
+ *
+ * A run stops after maxIterations steps, or earlier as soon as one of its
+ * stopping criteria is met (see StoppingCriteria).
+ *
+ */
+public class GradientOptimizer {
+
+	private final UpdateRule rule;
+	private final int maxIterations;
+	private final List<StoppingCriterion> stoppingCriteria = new ArrayList<>();
+	private IterationListener listener;
+	// both null unless runs are measured
+	private PhaseTimer stepTimer;
+	private PhaseTimer evaluationTimer;
+	private Counter iterations;
+
+	public GradientOptimizer(UpdateRule rule, int maxIterations) {
+		this.rule = rule;
+		this.maxIterations = maxIterations;
+	}
+
+	public void addStoppingCriterion(StoppingCriterion criterion) {
+		stoppingCriteria.add(criterion);
+	}
+
+	public void setListener(IterationListener listener) {
+		this.listener = listener;
+	}
+
+	/**
+	 * times the "step" of the update rule and the "evaluation" of the
+	 * objective and counts the "iterations" in metrics; null (the default)
+	 * measures nothing
+	 *
+	 */
+	public void setMetrics(Metrics metrics) {
+		stepTimer = metrics == null ? null : metrics.timer("step");
+		evaluationTimer = metrics == null ? null : metrics.timer("evaluation");
+		iterations = metrics == null ? null : metrics.counter("iterations");
+	}
+
+	public UpdateRule getRule() {
+		return rule;
+	}
+
+	/**
+	 * runs the optimizer from start, which is not modified
+	 */
+	public Minimum minimize(Objective objective, double[] start) {
+		int dimension = objective.dimension();
+
+		if (start.length != dimension) {
+			throw new IllegalArgumentException("expected a start of dimension " + dimension);
+		}
+
+		double[] x = start.clone();
+		double[] gradient = new double[dimension];
+		double value = objective.valueAndGradient(x, gradient);
+		double previous = Double.NaN;
+
+		rule.reset(dimension);
+
+		for (StoppingCriterion criterion : stoppingCriteria) {
+			criterion.start();
+		}
+
+		for (int i = 0; i < maxIterations; i++) {
+			if (isMet(i, value, previous, gradient)) {
+				return new Minimum(x, value, i, true);
+			}
+
+			previous = value;
+
+			if (iterations != null) {
+				long t = stepTimer.start();
+
+				rule.step(objective, x, value, gradient, i);
+				t = stepTimer.stop(t);
+				value = objective.valueAndGradient(x, gradient);
+				evaluationTimer.stop(t);
+				iterations.increment();
+			} else {
+				rule.step(objective, x, value, gradient, i);
+				value = objective.valueAndGradient(x, gradient);
+			}
+
+			if (listener != null) {
+				listener.iteration(i, x, value);
+			}
+		}
+
+		return new Minimum(x, value, maxIterations,
+			isMet(maxIterations, value, previous, gradient));
+	}
+
+	private boolean isMet(int iterations, double value, double previous,
+			double[] gradient) {
+		for (StoppingCriterion criterion : stoppingCriteria) {
+			if (criterion.isMet(iterations, value, previous, gradient)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+}
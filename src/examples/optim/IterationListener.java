@@ -0,0 +1,15 @@
+package examples.optim;
+
+/**
+ * Told about every iteration of an optimizer run, e.g. to report progress.
+ */
+public interface IterationListener {
+
+	/**
+	 * x is the point reached by the iteration and value f(x); x must not be
+	 * modified or kept
+	 *
+	 */
+	void iteration(int iteration, double[] x, double value);
+
+}
@@ -0,0 +1,41 @@
+package examples.optim;
+
+/**
+ * Outcome of an optimizer run.
+ */
+public class Minimum {
+
+	private final double[] point;
+	private final double value;
+	private final int iterations;
+	private final boolean converged;
+
+	public Minimum(double[] point, double value, int iterations, boolean converged) {
+		this.point = point;
+		this.value = value;
+		this.iterations = iterations;
+		this.converged = converged;
+	}
+
+	public double[] getPoint() {
+		return point;
+	}
+
+	public double getValue() {
+		return value;
+	}
+
+	public int getIterations() {
+		return iterations;
+	}
+
+	/**
+	 * true if a stopping criterion was met, rather than the run just
+	 * reaching its iteration limit
+	 *
+	 */
+	public boolean isConverged() {
+		return converged;
+	}
+
+}
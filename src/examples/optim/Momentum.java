@@ -0,0 +1,41 @@
+package examples.optim;
+
+/**
+ * Gradient descent with momentum: the step is a velocity that keeps a
+ * fraction of the previous one, v = momentum * v - rate * gradient, so
+ * progress builds up along consistent directions and oscillations across
+ * a narrow valley cancel out.
+ *
+ */
+public class Momentum implements UpdateRule {
+
+	private final double rate;
+	private final double momentum;
+	private double[] velocity = new double[0];
+
+	public Momentum(double rate) {
+		this(rate, 0.9);
+	}
+
+	public Momentum(double rate, double momentum) {
+		if (momentum < 0.0 || momentum >= 1.0) {
+			throw new IllegalArgumentException("momentum must be in [0, 1): " + momentum);
+		}
+
+		this.rate = rate;
+		this.momentum = momentum;
+	}
+
+	public void reset(int dimension) {
+		velocity = new double[dimension];
+	}
+
+	public void step(Objective objective, double[] x, double value,
+			double[] gradient, int iteration) {
+		for (int i = 0; i < x.length; i++) {
+			velocity[i] = momentum * velocity[i] - rate * gradient[i];
+			x[i] += velocity[i];
+		}
+	}
+
+}
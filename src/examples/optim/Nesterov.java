@@ -0,0 +1,46 @@
+package examples.optim;
+
+/**
+ * Nesterov accelerated gradient: momentum whose gradient is taken at the
+ * point the velocity is about to carry x to. Written in the usual
+ * reformulated form, which keeps x at the look-ahead point, so only the
+ * gradient at x is needed:
+ *
+ *   v' = momentum * v - rate * gradient
+ *   x += (1 + momentum) * v' - momentum * v
+ *
+ */
+public class Nesterov implements UpdateRule {
+
+	private final double rate;
+	private final double momentum;
+	private double[] velocity = new double[0];
+
+	public Nesterov(double rate) {
+		this(rate, 0.9);
+	}
+
+	public Nesterov(double rate, double momentum) {
+		if (momentum < 0.0 || momentum >= 1.0) {
+			throw new IllegalArgumentException("momentum must be in [0, 1): " + momentum);
+		}
+
+		this.rate = rate;
+		this.momentum = momentum;
+	}
+
+	public void reset(int dimension) {
+		velocity = new double[dimension];
+	}
+
+	public void step(Objective objective, double[] x, double value,
+			double[] gradient, int iteration) {
+		for (int i = 0; i < x.length; i++) {
+			double previous = velocity[i];
+
+			velocity[i] = momentum * previous - rate * gradient[i];
+			x[i] += (1.0 + momentum) * velocity[i] - momentum * previous;
+		}
+	}
+
+}
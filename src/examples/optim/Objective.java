@@ -0,0 +1,36 @@
+package examples.optim;
+
+/**
+ * Differentiable function of n parameters to minimize.
+ */
+public interface Objective {
+
+	/**
+	 * number of parameters
+	 */
+	int dimension();
+
+	/**
+	 * double[] -> double
+	 *
+	 * produces f(x)
+	 *
+	 */
+	double value(double[] x);
+
+	/**
+	 * writes the gradient of f at x to gradient
+	 */
+	void gradient(double[] x, double[] gradient);
+
+	/**
+	 * writes the gradient of f at x to gradient and produces f(x); worth
+	 * overriding when both share most of the work
+	 *
+	 */
+	default double valueAndGradient(double[] x, double[] gradient) {
+		gradient(x, gradient);
+		return value(x);
+	}
+
+}
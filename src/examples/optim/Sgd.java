@@ -0,0 +1,24 @@
+package examples.optim;
+
+/**
+ * Plain gradient descent: x -= rate * gradient.
+ */
+public class Sgd implements UpdateRule {
+
+	private final double rate;
+
+	public Sgd(double rate) {
+		this.rate = rate;
+	}
+
+	public void reset(int dimension) {
+	}
+
+	public void step(Objective objective, double[] x, double value,
+			double[] gradient, int iteration) {
+		for (int i = 0; i < x.length; i++) {
+			x[i] -= rate * gradient[i];
+		}
+	}
+
+}
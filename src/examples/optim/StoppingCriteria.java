@@ -0,0 +1,96 @@
+package examples.optim;
+
+/**
+ * The usual stopping criteria.
+ */
+public final class StoppingCriteria {
+
+	private StoppingCriteria() {
+	}
+
+	/**
+	 * met once the norm of the gradient falls to tolerance
+	 */
+	public static StoppingCriterion gradientNorm(double tolerance) {
+		return (iterations, value, previousValue, gradient) -> {
+			double sum = 0.0;
+
+			for (double g : gradient) {
+				sum += g * g;
+			}
+
+			return Math.sqrt(sum) <= tolerance;
+		};
+	}
+
+	/**
+	 * met once an iteration changes f by less than tolerance, relative to
+	 * |f| when |f| > 1
+	 *
+	 */
+	public static StoppingCriterion valueDelta(double tolerance) {
+		return (iterations, value, previousValue, gradient) ->
+			Math.abs(previousValue - value) <= tolerance * Math.max(1.0, Math.abs(value));
+	}
+
+	/**
+	 * met once f falls to target
+	 */
+	public static StoppingCriterion targetValue(double target) {
+		return (iterations, value, previousValue, gradient) -> value <= target;
+	}
+
+	/**
+	 * met when the lowest f found has not decreased by more than
+	 * minImprovement for the given number of iterations
+	 *
+	 */
+	public static StoppingCriterion stagnation(int window, double minImprovement) {
+		if (window < 1) {
+			throw new IllegalArgumentException("window must be positive: " + window);
+		}
+
+		return new StoppingCriterion() {
+
+			private double best;
+			private int improvedAt;
+
+			public void start() {
+				best = Double.POSITIVE_INFINITY;
+				improvedAt = 0;
+			}
+
+			public boolean isMet(int iterations, double value, double previousValue,
+					double[] gradient) {
+				if (value < best - minImprovement) {
+					best = value;
+					improvedAt = iterations;
+				}
+
+				return iterations - improvedAt >= window;
+			}
+
+		};
+	}
+
+	/**
+	 * met once the given time has passed since the run started
+	 */
+	public static StoppingCriterion wallClock(long millis) {
+		return new StoppingCriterion() {
+
+			private long deadline;
+
+			public void start() {
+				deadline = System.nanoTime() + millis * 1_000_000L;
+			}
+
+			public boolean isMet(int iterations, double value, double previousValue,
+					double[] gradient) {
+				return System.nanoTime() - deadline >= 0;
+			}
+
+		};
+	}
+
+}
@@ -0,0 +1,26 @@
+package examples.optim;
+
+/**
+ * Condition on which an optimizer run stops before its last iteration,
+ * e.g. when it has converged (see StoppingCriteria).
+ *
+ */
+public interface StoppingCriterion {
+
+	/**
+	 * called when a run starts, does nothing by default
+	 */
+	default void start() {
+	}
+
+	/**
+	 * checked before every iteration and once after the last one.
+	 * iterations is the number of iterations run so far, value is f at the
+	 * current point, previousValue f at the point before (NaN before the
+	 * first iteration) and gradient the gradient at the current point,
+	 * which must not be modified
+	 *
+	 */
+	boolean isMet(int iterations, double value, double previousValue, double[] gradient);
+
+}
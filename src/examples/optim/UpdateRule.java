@@ -0,0 +1,24 @@
+package examples.optim;
+
+/**
+ * How an optimizer moves the parameters from the gradient. Rules may keep
+ * state between steps (velocities, moment estimates), reset at the start
+ * of every run, so an instance must not be shared by concurrent runs.
+ *
+ */
+public interface UpdateRule {
+
+	/**
+	 * called before the first step of a run
+	 */
+	void reset(int dimension);
+
+	/**
+	 * moves x in place, given its value and gradient. iteration counts the
+	 * steps of the run from 0
+	 *
+	 */
+	void step(Objective objective, double[] x, double value, double[] gradient,
+		int iteration);
+
+}
@@ -0,0 +1,33 @@
+package examples.optim;
+
+/**
+ * Update rules by name, for agents that receive the method at run time.
+ */
+public final class UpdateRules {
+
+	private UpdateRules() {
+	}
+
+	/**
+	 * produces the rule with the given name: "sgd", "momentum", "nesterov",
+	 * "adam" or "linesearch"; rate is ignored by the line search
+	 *
+	 */
+	public static UpdateRule byName(String name, double rate) {
+		switch (name) {
+			case "sgd":
+				return new Sgd(rate);
+			case "momentum":
+				return new Momentum(rate);
+			case "nesterov":
+				return new Nesterov(rate);
+			case "adam":
+				return new Adam(rate);
+			case "linesearch":
+				return new BacktrackingLineSearch();
+			default:
+				throw new IllegalArgumentException("unknown update rule: " + name);
+		}
+	}
+
+}
@@ -0,0 +1,211 @@
+package examples.regression;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Dataset stored by columns, every column a DoubleBuffer of the same
+ * number of rows. A dataset file is mapped into memory rather than read,
+ * so the columns are used in place, without parsing or copying them onto
+ * the heap, and the operating system pages them in as they are touched.
+ *
+ * File format, little-endian: a 32 byte header (the magic "SLRD" as an
+ * int, the format version, the number of columns, an unused int, the
+ * number of rows as a long and an unused long) followed by the columns one
+ * after the other, each a run of doubles. A mapped column cannot be bigger
+ * than 2 GB, about 268 million rows.
+ *
+ */
+public class ColumnarDataset {
+
+	private static final int MAGIC = 0x534C5244;
+	private static final int VERSION = 1;
+	private static final int HEADER_SIZE = 32;
+
+	private final DoubleBuffer[] columns;
+	private final int rows;
+
+	private ColumnarDataset(DoubleBuffer[] columns, int rows) {
+		this.columns = columns;
+		this.rows = rows;
+	}
+
+	/**
+	 * produces a dataset backed by the given arrays, which are not copied
+	 */
+	public static ColumnarDataset of(double[]... columns) {
+		int rows = columns.length == 0 ? 0 : columns[0].length;
+		var buffers = new DoubleBuffer[columns.length];
+
+		for (int j = 0; j < columns.length; j++) {
+			if (columns[j].length != rows) {
+				throw new IllegalArgumentException("columns must have " + rows + " rows");
+			}
+
+			buffers[j] = DoubleBuffer.wrap(columns[j]);
+		}
+
+		return new ColumnarDataset(buffers, rows);
+	}
+
+	/**
+	 * produces a copy of a dataset given by rows, e.g. Datasets.sample()
+	 */
+	public static ColumnarDataset fromRows(double[][] dataset) {
+		int width = dataset.length == 0 ? 0 : dataset[0].length;
+		double[][] columns = new double[width][];
+
+		for (int j = 0; j < width; j++) {
+			columns[j] = Datasets.column(dataset, j);
+		}
+
+		return of(columns);
+	}
+
+	/**
+	 * maps a dataset file, read only. The mapping stays valid after the
+	 * file is closed
+	 *
+	 */
+	public static ColumnarDataset map(Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+			while (header.hasRemaining()) {
+				if (channel.read(header) < 0) {
+					throw new IOException(file + ": truncated header");
+				}
+			}
+
+			header.flip();
+
+			if (header.getInt() != MAGIC) {
+				throw new IOException(file + ": not a columnar dataset");
+			}
+
+			int version = header.getInt();
+
+			if (version != VERSION) {
+				throw new IOException(file + ": unsupported version " + version);
+			}
+
+			int width = header.getInt();
+			header.getInt();
+			long rows = header.getLong();
+
+			if (width < 0 || rows < 0) {
+				throw new IOException(file + ": corrupt header");
+			}
+
+			if (rows > Integer.MAX_VALUE / Double.BYTES) {
+				throw new IOException(file + ": columns of " + rows + " rows are too big to map");
+			}
+
+			long columnSize = rows * Double.BYTES;
+
+			// width * columnSize could overflow for a corrupt width
+			if (columnSize > 0 && width > (channel.size() - HEADER_SIZE) / columnSize) {
+				throw new IOException(file + ": truncated, expected " + width +
+					" columns of " + rows + " rows");
+			}
+
+			var columns = new DoubleBuffer[width];
+
+			for (int j = 0; j < width; j++) {
+				columns[j] = channel.map(FileChannel.MapMode.READ_ONLY,
+					HEADER_SIZE + j * columnSize, columnSize)
+					.order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+			}
+
+			return new ColumnarDataset(columns, (int) rows);
+		}
+	}
+
+	/**
+	 * writes the columns, which must have the same length, as a dataset
+	 * file
+	 *
+	 */
+	public static void write(Path file, double[]... columns) throws IOException {
+		long rows = columns.length == 0 ? 0 : columns[0].length;
+
+		// before the file is touched, so a bad call leaves nothing behind
+		for (double[] column : columns) {
+			if (column.length != rows) {
+				throw new IllegalArgumentException("columns must have " + rows + " rows");
+			}
+		}
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE,
+				StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			ByteBuffer buffer = ByteBuffer.allocate(1 << 16).order(ByteOrder.LITTLE_ENDIAN);
+
+			buffer.putInt(MAGIC).putInt(VERSION).putInt(columns.length).putInt(0)
+				.putLong(rows).putLong(0);
+
+			for (double[] column : columns) {
+				for (double value : column) {
+					if (!buffer.hasRemaining()) {
+						drain(channel, buffer);
+					}
+
+					buffer.putDouble(value);
+				}
+			}
+
+			drain(channel, buffer);
+		}
+	}
+
+	private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+		buffer.flip();
+
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+
+		buffer.clear();
+	}
+
+	public int rows() {
+		return rows;
+	}
+
+	public int columns() {
+		return columns.length;
+	}
+
+	/**
+	 * produces a read only view of column j, from row 0
+	 */
+	public DoubleBuffer column(int j) {
+		return columns[j].asReadOnlyBuffer();
+	}
+
+	public double get(int row, int column) {
+		return columns[column].get(row);
+	}
+
+	/**
+	 * produces a copy of the dataset as {x, y, ...} rows, for the code that
+	 * needs them on the heap
+	 *
+	 */
+	public double[][] toRows() {
+		double[][] dataset = new double[rows][columns.length];
+
+		for (int j = 0; j < columns.length; j++) {
+			for (int i = 0; i < rows; i++) {
+				dataset[i][j] = columns[j].get(i);
+			}
+		}
+
+		return dataset;
+	}
+
+}
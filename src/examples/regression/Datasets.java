@@ -0,0 +1,83 @@
+package examples.regression;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Datasets shared by the regression agents.
+ */
+public final class Datasets {
+
+	private Datasets() {
+	}
+
+	/**
+	 * produces a new copy of the sample data used by the agents,
+	 * rows are {x, y} pairs
+	 *
+	 */
+	public static double[][] sample() {
+		return new double[][] {
+			{23, 651},  {26, 762},  {30, 856},
+			{34, 1063}, {43, 1190}, {48, 1298},
+			{52, 1421}, {57, 1440}, {58, 1518}
+		};
+	}
+
+	/**
+	 * produces a copy of one column of a dataset, e.g. the x or the y
+	 * of the {x, y} rows of sample()
+	 *
+	 */
+	public static double[] column(double[][] dataset, int index) {
+		double[] column = new double[dataset.length];
+
+		for (int i = 0; i < dataset.length; i++) {
+			column[i] = dataset[i][index];
+		}
+
+		return column;
+	}
+
+	/**
+	 * reads a text file of "x,y" lines in a single pass and produces its
+	 * regression statistics; the file is never held in memory. Blank lines
+	 * and lines starting with # are skipped
+	 *
+	 */
+	public static RegressionStatistics statistics(Path file) throws IOException {
+		var statistics = new RegressionStatistics();
+
+		try (BufferedReader reader = Files.newBufferedReader(file)) {
+			String line;
+			int number = 0;
+
+			while ((line = reader.readLine()) != null) {
+				number++;
+				line = line.strip();
+
+				if (line.isEmpty() || line.startsWith("#")) {
+					continue;
+				}
+
+				int comma = line.indexOf(',');
+
+				if (comma < 0) {
+					throw new IOException(file + ":" + number + ": expected x,y");
+				}
+
+				try {
+					statistics.add(Double.parseDouble(line.substring(0, comma)),
+						Double.parseDouble(line.substring(comma + 1)));
+				} catch (NumberFormatException e) {
+					throw new IOException(file + ":" + number + ": " + e.getMessage());
+				}
+			}
+		}
+
+		return statistics;
+	}
+
+}
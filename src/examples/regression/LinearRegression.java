@@ -0,0 +1,290 @@
+package examples.regression;
+
+import examples.optim.GradientOptimizer;
+import examples.optim.Minimum;
+import examples.optim.Objective;
+import examples.optim.StoppingCriterion;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * Simple linear regression y = beta_0 + beta_1 * x, fitted either in
+ * closed form from the sufficient statistics of the data (a single O(n)
+ * pass) or with gradient descent.
+ *
+ */
+public class LinearRegression {
+
+	private double beta_0;
+	private double beta_1;
+
+	private static final int X_POSITION = 0;
+	private static final int Y_POSITION = 1;
+
+	public LinearRegression() {
+		beta_0 = 0.0;
+		beta_1 = 0.0;
+	}
+
+	public double predict(double x) {
+		return (beta_1 * x) + beta_0;
+	}
+
+	/**
+	 * writes to y[i] the prediction of x[i] for the first n values, y can
+	 * be x itself
+	 *
+	 */
+	public void predict(double[] x, double[] y, int n) {
+		double b0 = beta_0;
+		double b1 = beta_1;
+
+		for (int i = 0; i < n; i++) {
+			y[i] = (b1 * x[i]) + b0;
+		}
+	}
+
+	/**
+	 * writes to y the predictions of the remaining values of x, from the
+	 * positions of both buffers, and advances them
+	 *
+	 */
+	public void predict(DoubleBuffer x, DoubleBuffer y) {
+		int n = x.remaining();
+
+		if (y.remaining() < n) {
+			throw new IllegalArgumentException("no room for " + n + " predictions");
+		}
+
+		int xFrom = x.position();
+		int yFrom = y.position();
+		double b0 = beta_0;
+		double b1 = beta_1;
+
+		// absolute get and put, which the JIT compiles to plain loads and
+		// stores; the columns of a ColumnarDataset are read only views, so
+		// they never expose an array
+		for (int i = 0; i < n; i++) {
+			y.put(yFrom + i, (b1 * x.get(xFrom + i)) + b0);
+		}
+
+		x.position(xFrom + n);
+		y.position(yFrom + n);
+	}
+
+	private double error(double y_i, double y_p) {
+		return y_i - y_p;
+	}
+
+	private double partialDerivB1(double x, double y, int n) {
+		var e = error(y, predict(x));
+
+		return ((double) (-2) / n) * x * e;
+	}
+
+	private double partialDerivB0(double x, double y, int n) {
+		var e = error(y, predict(x));
+
+		return ((double) (-2) / n) * e;
+	}
+
+	/**
+	 * produces the number of epochs run, criterion (if not null) is
+	 * checked on the mean squared error before every epoch
+	 *
+	 */
+	private int gradient_descent(double[][] dataset, double alpha, int epoch,
+			StoppingCriterion criterion) {
+		int N = dataset.length;
+		MeanSquaredError mse = null;
+		double[] beta = null;
+		double[] gradient = null;
+		double previous = Double.NaN;
+
+		if (criterion != null) {
+			mse = new MeanSquaredError(dataset);
+			beta = new double[2];
+			gradient = new double[2];
+			criterion.start();
+		}
+
+		for (int i = 0; i < epoch; i++) {
+			if (criterion != null) {
+				beta[0] = beta_0;
+				beta[1] = beta_1;
+
+				double value = mse.valueAndGradient(beta, gradient);
+
+				if (criterion.isMet(i, value, previous, gradient)) {
+					return i;
+				}
+
+				previous = value;
+			}
+
+			for (int j = 0; j < dataset.length; j++) {
+				var x_i = dataset[j][X_POSITION];
+				var y_i = dataset[j][Y_POSITION];
+
+				beta_0 -= (alpha * partialDerivB0(x_i, y_i, N));
+				beta_1 -= (alpha * partialDerivB1(x_i, y_i, N));
+			}
+		}
+
+		return epoch;
+	}
+
+	public double getBeta_0() {
+		return beta_0;
+	}
+
+	public double getBeta_1() {
+		return beta_1;
+	}
+
+	/**
+	 * fits the least squares line, dataset rows are {x, y} pairs
+	 */
+	public void train(double[][] dataset) {
+		var statistics = new RegressionStatistics();
+
+		statistics.addAll(dataset);
+		fit(statistics);
+	}
+
+	/**
+	 * fits the least squares line, reading x from column 0 and y from
+	 * column 1 of the dataset in place
+	 *
+	 */
+	public void train(ColumnarDataset dataset) {
+		var statistics = new RegressionStatistics();
+
+		statistics.addAll(dataset.column(0), dataset.column(1));
+		fit(statistics);
+	}
+
+	/**
+	 * fits the least squares line of the data summarized by statistics,
+	 * which can be gathered from a stream too big to keep in memory
+	 *
+	 */
+	public void fit(RegressionStatistics statistics) {
+		if (statistics.getCount() < 2) {
+			throw new IllegalArgumentException("at least two points are needed");
+		}
+
+		double slope = statistics.slope();
+
+		if (Double.isNaN(slope)) {
+			throw new IllegalArgumentException("all the x values are equal");
+		}
+
+		beta_1 = slope;
+		beta_0 = statistics.intercept();
+	}
+
+	/**
+	 * fits the line with mini-batch gradient descent over the columns x
+	 * and y (see MultipleLinearRegression.train, whose alpha is on another
+	 * scale than that of train(dataset, alpha, epoch))
+	 *
+	 */
+	public void train(double[] x, double[] y, double alpha, int epoch,
+			int batchSize) {
+		var regression = new MultipleLinearRegression(1);
+
+		regression.train(new double[][] { x }, y, alpha, epoch, batchSize);
+		beta_0 = regression.getIntercept();
+		beta_1 = regression.getWeight(0);
+	}
+
+	/**
+	 * fits the line by minimizing the mean squared error with optimizer,
+	 * starting from the current coefficients, and produces the outcome of
+	 * the run. Dataset rows are {x, y} pairs
+	 *
+	 */
+	public Minimum train(double[][] dataset, GradientOptimizer optimizer) {
+		var minimum = optimizer.minimize(new MeanSquaredError(dataset),
+			new double[] { beta_0, beta_1 });
+
+		beta_0 = minimum.getPoint()[0];
+		beta_1 = minimum.getPoint()[1];
+
+		return minimum;
+	}
+
+	/**
+	 * fits the line with gradient descent, dataset rows are {x, y} pairs
+	 */
+	public void train(double[][] dataset, double alpha, int epoch) {
+		gradient_descent(dataset, alpha, epoch, null);
+	}
+
+	/**
+	 * like train(dataset, alpha, epoch), stopping as soon as criterion is
+	 * met (see examples.optim.StoppingCriteria); produces the number of
+	 * epochs run
+	 *
+	 */
+	public int train(double[][] dataset, double alpha, int epoch,
+			StoppingCriterion criterion) {
+		return gradient_descent(dataset, alpha, epoch, criterion);
+	}
+
+	/**
+	 * mean squared error of the line {beta_0, beta_1} over a dataset
+	 */
+	private static class MeanSquaredError implements Objective {
+
+		private final double[][] dataset;
+
+		MeanSquaredError(double[][] dataset) {
+			this.dataset = dataset;
+		}
+
+		public int dimension() {
+			return 2;
+		}
+
+		public double value(double[] beta) {
+			double sum = 0.0;
+
+			for (double[] row : dataset) {
+				double e = row[Y_POSITION] - (beta[1] * row[X_POSITION] + beta[0]);
+				sum += e * e;
+			}
+
+			return sum / dataset.length;
+		}
+
+		public void gradient(double[] beta, double[] gradient) {
+			valueAndGradient(beta, gradient);
+		}
+
+		public double valueAndGradient(double[] beta, double[] gradient) {
+			double sum = 0.0;
+			double g0 = 0.0;
+			double g1 = 0.0;
+
+			for (double[] row : dataset) {
+				double x = row[X_POSITION];
+				double e = row[Y_POSITION] - (beta[1] * x + beta[0]);
+
+				sum += e * e;
+				g0 += e;
+				g1 += e * x;
+			}
+
+			int n = dataset.length;
+
+			gradient[0] = -2.0 * g0 / n;
+			gradient[1] = -2.0 * g1 / n;
+
+			return sum / n;
+		}
+
+	}
+
+}
@@ -0,0 +1,208 @@
+package examples.regression;
+
+import java.util.Arrays;
+
+/**
+ * Linear regression y = intercept + w_0 * x_0 + ... + w_k-1 * x_k-1 fitted
+ * with mini-batch gradient descent.
+ *
+ * The data is given by columns, one primitive array per feature, so every
+ * pass of the trainer is a sequential walk over arrays: the residuals of
+ * a batch are built with one multiply-add loop per feature and both the
+ * intercept and the weight gradients come from those residuals, no
+ * prediction is computed twice. These simple counted loops are the ones
+ * the JIT turns into SIMD code. Batches are taken in order, so data sorted
+ * by some feature should be shuffled first.
+ *
+ */
+public class MultipleLinearRegression {
+
+	private double intercept;
+	private double[] weights;
+	private double[] residuals = new double[0];
+	private double[] gradient;
+
+	public MultipleLinearRegression(int features) {
+		weights = new double[features];
+	}
+
+	public double getIntercept() {
+		return intercept;
+	}
+
+	/**
+	 * produces the weight of the given feature
+	 */
+	public double getWeight(int feature) {
+		return weights[feature];
+	}
+
+	public int getFeatures() {
+		return weights.length;
+	}
+
+	/**
+	 * features holds one value per feature
+	 */
+	public double predict(double[] features) {
+		double y = intercept;
+
+		for (int j = 0; j < weights.length; j++) {
+			y += weights[j] * features[j];
+		}
+
+		return y;
+	}
+
+	/**
+	 * writes to y[i] the prediction of row i of the columns for the first
+	 * n rows, one feature at a time
+	 *
+	 */
+	public void predict(double[][] columns, double[] y, int n) {
+		Arrays.fill(y, 0, n, intercept);
+
+		for (int j = 0; j < weights.length; j++) {
+			double w = weights[j];
+			double[] x = columns[j];
+
+			for (int i = 0; i < n; i++) {
+				y[i] += w * x[i];
+			}
+		}
+	}
+
+	/**
+	 * columns[j][i] is feature j of row i and y[i] its target. Every epoch
+	 * walks the rows in batches of batchSize, updating the coefficients
+	 * after each batch; a batchSize of y.length is plain batch gradient
+	 * descent.
+	 *
+	 * Each update moves by alpha times the mean gradient of the batch, so
+	 * a stable alpha is below 1 / mean(x^2), about 5e-4 for x in [20, 60):
+	 * the alpha of LinearRegression.train(dataset, alpha, epoch), which
+	 * updates once per row, does not carry over
+	 *
+	 */
+	public void train(double[][] columns, double[] y, double alpha, int epoch,
+			int batchSize) {
+		int n = y.length;
+
+		checkColumns(columns, n);
+
+		if (batchSize < 1) {
+			throw new IllegalArgumentException("batch size must be positive: " + batchSize);
+		}
+
+		if (residuals.length < Math.min(batchSize, n)) {
+			residuals = new double[Math.min(batchSize, n)];
+		}
+
+		if (gradient == null) {
+			gradient = new double[weights.length + 1];
+		}
+
+		for (int i = 0; i < epoch; i++) {
+			for (int from = 0; from < n; from += batchSize) {
+				int to = Math.min(n, from + batchSize);
+
+				gradient(columns, y, from, to, residuals, gradient);
+				descend(gradient, alpha * 2.0 / (to - from));
+			}
+		}
+	}
+
+	void checkColumns(double[][] columns, int n) {
+		if (columns.length != weights.length) {
+			throw new IllegalArgumentException("expected " + weights.length +
+				" feature columns, got " + columns.length);
+		}
+
+		for (double[] column : columns) {
+			if (column.length != n) {
+				throw new IllegalArgumentException("columns must have " + n + " rows");
+			}
+		}
+	}
+
+	/**
+	 * leaves in gradient the sums of the residuals of rows [from, to) and
+	 * of their products with every feature, that is, the gradient of the
+	 * squared error of those rows up to a factor 2 / m. r is scratch space
+	 * for to - from residuals
+	 *
+	 */
+	void gradient(double[][] columns, double[] y, int from, int to,
+			double[] r, double[] gradient) {
+		int m = to - from;
+
+		for (int i = 0; i < m; i++) {
+			r[i] = intercept - y[from + i];
+		}
+
+		for (int j = 0; j < weights.length; j++) {
+			double w = weights[j];
+			double[] x = columns[j];
+
+			for (int i = 0; i < m; i++) {
+				r[i] += w * x[from + i];
+			}
+		}
+
+		gradient[0] = sum(r, m);
+
+		for (int j = 0; j < weights.length; j++) {
+			gradient[j + 1] = dot(r, columns[j], from, m);
+		}
+	}
+
+	/**
+	 * moves the coefficients against gradient (as left by gradient())
+	 */
+	void descend(double[] gradient, double scale) {
+		intercept -= scale * gradient[0];
+
+		for (int j = 0; j < weights.length; j++) {
+			weights[j] -= scale * gradient[j + 1];
+		}
+	}
+
+	private static double sum(double[] r, int m) {
+		double s0 = 0.0, s1 = 0.0, s2 = 0.0, s3 = 0.0;
+		int i = 0;
+
+		// independent accumulators, a single one would make every add
+		// wait for the previous
+		for (; i + 3 < m; i += 4) {
+			s0 += r[i];
+			s1 += r[i + 1];
+			s2 += r[i + 2];
+			s3 += r[i + 3];
+		}
+
+		for (; i < m; i++) {
+			s0 += r[i];
+		}
+
+		return (s0 + s1) + (s2 + s3);
+	}
+
+	private static double dot(double[] r, double[] x, int from, int m) {
+		double s0 = 0.0, s1 = 0.0, s2 = 0.0, s3 = 0.0;
+		int i = 0;
+
+		for (; i + 3 < m; i += 4) {
+			s0 += r[i] * x[from + i];
+			s1 += r[i + 1] * x[from + i + 1];
+			s2 += r[i + 2] * x[from + i + 2];
+			s3 += r[i + 3] * x[from + i + 3];
+		}
+
+		for (; i < m; i++) {
+			s0 += r[i] * x[from + i];
+		}
+
+		return (s0 + s1) + (s2 + s3);
+	}
+
+}
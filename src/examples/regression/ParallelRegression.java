@@ -0,0 +1,199 @@
+package examples.regression;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Data parallel training of linear regressions on a fork-join pool with the
+ * given degree of parallelism. The rows are split into shards; every shard
+ * computes its partial sufficient statistics (closed form) or its partial
+ * gradient (gradient descent) and the partial results are reduced on the
+ * calling thread.
+ *
+ * The shards depend only on the number of rows and the partial results are
+ * reduced in shard order, so the result is the same, bit for bit, whatever
+ * the scheduling. Datasets smaller than the shard size are trained on the
+ * calling thread.
+ *
+ */
+public class ParallelRegression implements AutoCloseable {
+
+	private static final int DEFAULT_SHARD_SIZE = 16384;
+
+	private final ForkJoinPool pool;
+	private final int shardSize;
+
+	/**
+	 * uses every available processor
+	 */
+	public ParallelRegression() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	public ParallelRegression(int parallelism) {
+		this(parallelism, DEFAULT_SHARD_SIZE);
+	}
+
+	/**
+	 * shardSize is the number of rows of every shard
+	 */
+	public ParallelRegression(int parallelism, int shardSize) {
+		if (shardSize < 1) {
+			throw new IllegalArgumentException("shard size must be positive: " + shardSize);
+		}
+
+		this.pool = new ForkJoinPool(parallelism);
+		this.shardSize = shardSize;
+	}
+
+	public int getParallelism() {
+		return pool.getParallelism();
+	}
+
+	/**
+	 * produces the regression statistics of the columns x and y, ready for
+	 * LinearRegression.fit
+	 *
+	 */
+	public RegressionStatistics statistics(double[] x, double[] y) {
+		return statistics(DoubleBuffer.wrap(x), DoubleBuffer.wrap(y));
+	}
+
+	/**
+	 * produces the regression statistics of the columns x and y, e.g. those
+	 * of a mapped ColumnarDataset, from index 0 to the limit
+	 *
+	 */
+	public RegressionStatistics statistics(DoubleBuffer x, DoubleBuffer y) {
+		int n = y.limit();
+
+		if (x.limit() != n) {
+			throw new IllegalArgumentException("x and y must have the same length");
+		}
+
+		int shards = shards(n);
+		var partial = new RegressionStatistics[shards];
+
+		// absolute gets only, so the shards can share the buffers
+		run(shards, shard -> {
+			var statistics = new RegressionStatistics();
+
+			statistics.addAll(x, y, from(shard), to(shard, n));
+			partial[shard] = statistics;
+		});
+
+		var statistics = new RegressionStatistics();
+
+		for (RegressionStatistics shardStatistics : partial) {
+			statistics.combine(shardStatistics);
+		}
+
+		return statistics;
+	}
+
+	/**
+	 * trains model with full batch gradient descent over the columns (see
+	 * MultipleLinearRegression.train), computing the gradient of every
+	 * epoch shard by shard
+	 *
+	 */
+	public void train(MultipleLinearRegression model, double[][] columns,
+			double[] y, double alpha, int epoch) {
+		int features = model.getFeatures();
+		int n = y.length;
+
+		model.checkColumns(columns, n);
+
+		if (n == 0) {
+			return;
+		}
+
+		int shards = shards(n);
+		// gradient sums of every shard: intercept first, then the weights
+		double[][] partial = new double[shards][features + 1];
+		double[][] residuals = new double[shards][];
+		double[] gradient = new double[features + 1];
+
+		for (int shard = 0; shard < shards; shard++) {
+			residuals[shard] = new double[to(shard, n) - from(shard)];
+		}
+
+		for (int i = 0; i < epoch; i++) {
+			run(shards, shard -> model.gradient(columns, y, from(shard),
+				to(shard, n), residuals[shard], partial[shard]));
+
+			Arrays.fill(gradient, 0.0);
+
+			for (double[] shardGradient : partial) {
+				for (int j = 0; j <= features; j++) {
+					gradient[j] += shardGradient[j];
+				}
+			}
+
+			model.descend(gradient, alpha * 2.0 / n);
+		}
+	}
+
+	public void close() {
+		pool.shutdown();
+	}
+
+	private int shards(int n) {
+		return Math.max(1, (n + shardSize - 1) / shardSize);
+	}
+
+	private int from(int shard) {
+		return shard * shardSize;
+	}
+
+	private int to(int shard, int n) {
+		return (int) Math.min(n, (long) (shard + 1) * shardSize);
+	}
+
+	/**
+	 * runs work for every shard, on the pool when there is more than one
+	 */
+	private void run(int shards, ShardWork work) {
+		if (shards == 1) {
+			work.run(0);
+		} else {
+			pool.invoke(new ShardTask(work, 0, shards));
+		}
+	}
+
+	private interface ShardWork {
+
+		void run(int shard);
+
+	}
+
+	private static class ShardTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final ShardWork work;
+		private final int from;
+		private final int to;
+
+		ShardTask(ShardWork work, int from, int to) {
+			this.work = work;
+			this.from = from;
+			this.to = to;
+		}
+
+		protected void compute() {
+			if (to - from == 1) {
+				work.run(from);
+				return;
+			}
+
+			int mid = (from + to) >>> 1;
+
+			invokeAll(new ShardTask(work, from, mid), new ShardTask(work, mid, to));
+		}
+
+	}
+
+}
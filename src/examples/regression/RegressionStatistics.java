@@ -0,0 +1,123 @@
+package examples.regression;
+
+import java.nio.DoubleBuffer;
+
+/**
+ * Sufficient statistics of a simple linear regression: the count, the
+ * means of x and y and the centered sums of squares and products. They
+ * are updated one point at a time (Welford's method, which unlike the raw
+ * sums of x, y, xy and x^2 does not lose precision when the values are
+ * big), so a dataset of any size is fitted in a single pass without being
+ * held in memory.
+ *
+ * Statistics of separate parts of a dataset can be combined into those of
+ * the whole.
+ *
+ */
+public class RegressionStatistics {
+
+	private long count;
+	private double meanX;
+	private double meanY;
+	// sum of (x - meanX)^2 and of (x - meanX) * (y - meanY)
+	private double sxx;
+	private double sxy;
+	private double syy;
+
+	public void add(double x, double y) {
+		count++;
+
+		double dx = x - meanX;
+		double dy = y - meanY;
+
+		meanX += dx / count;
+		meanY += dy / count;
+		sxx += dx * (x - meanX);
+		sxy += dx * (y - meanY);
+		syy += dy * (y - meanY);
+	}
+
+	/**
+	 * dataset rows are {x, y} pairs
+	 */
+	public void addAll(double[][] dataset) {
+		for (double[] row : dataset) {
+			add(row[0], row[1]);
+		}
+	}
+
+	/**
+	 * adds the points of the columns x and y, e.g. those of a
+	 * ColumnarDataset, from index 0 to the limit
+	 *
+	 */
+	public void addAll(DoubleBuffer x, DoubleBuffer y) {
+		addAll(x, y, 0, y.limit());
+	}
+
+	/**
+	 * adds the points [from, to) of the columns x and y
+	 */
+	public void addAll(DoubleBuffer x, DoubleBuffer y, int from, int to) {
+		for (int i = from; i < to; i++) {
+			add(x.get(i), y.get(i));
+		}
+	}
+
+	/**
+	 * adds the points summarized by other to these statistics
+	 */
+	public void combine(RegressionStatistics other) {
+		if (other.count == 0) {
+			return;
+		}
+
+		long n = count + other.count;
+		double dx = other.meanX - meanX;
+		double dy = other.meanY - meanY;
+		double weight = (double) count * other.count / n;
+
+		sxx += other.sxx + dx * dx * weight;
+		sxy += other.sxy + dx * dy * weight;
+		syy += other.syy + dy * dy * weight;
+		meanX += dx * other.count / n;
+		meanY += dy * other.count / n;
+		count = n;
+	}
+
+	public long getCount() {
+		return count;
+	}
+
+	public double getMeanX() {
+		return meanX;
+	}
+
+	public double getMeanY() {
+		return meanY;
+	}
+
+	/**
+	 * produces the least squares slope, NaN if all the x are equal
+	 */
+	public double slope() {
+		return sxx == 0.0 ? Double.NaN : sxy / sxx;
+	}
+
+	/**
+	 * produces the least squares intercept, NaN if all the x are equal
+	 */
+	public double intercept() {
+		return meanY - slope() * meanX;
+	}
+
+	/**
+	 * produces the coefficient of determination of the least squares
+	 * line
+	 *
+	 */
+	public double rSquared() {
+		return sxx == 0.0 || syy == 0.0 ? Double.NaN : sxy * sxy / (sxx * syy);
+	}
+
+}
@@ -0,0 +1,56 @@
+package examples.telemetry;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes the records to a compact binary log, no formatting involved.
+ * Big-endian (DataOutputStream): the magic "TLOG" as an int, the source,
+ * the step name, the number of columns and their names (modified UTF-8,
+ * as writeUTF) and then every record as the step (long) followed by its
+ * values (doubles).
+ *
+ */
+public class BinarySink implements TelemetrySink {
+
+    public static final int MAGIC = 0x544C4F47;
+
+    private final Path file;
+    private DataOutputStream out;
+
+    public BinarySink(Path file) {
+        this.file = file;
+    }
+
+    public void open(String source, String stepName, String[] columns) throws IOException {
+        out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16));
+        out.writeInt(MAGIC);
+        out.writeUTF(source);
+        out.writeUTF(stepName);
+        out.writeInt(columns.length);
+
+        for (String column : columns) {
+            out.writeUTF(column);
+        }
+    }
+
+    public void write(long step, double[] values) throws IOException {
+        out.writeLong(step);
+
+        for (double value : values) {
+            out.writeDouble(value);
+        }
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    public void close() throws IOException {
+        out.close();
+    }
+
+}
@@ -0,0 +1,71 @@
+package examples.telemetry;
+
+import java.io.PrintStream;
+
+/**
+ * Prints every n-th record as a row of a table, under a header with the
+ * column names, so long runs can be followed without printing every
+ * iteration.
+ *
+ */
+public class ConsoleSink implements TelemetrySink {
+
+    private final PrintStream out;
+    private final int every;
+    private long count;
+
+    /**
+     * prints every record
+     */
+    public ConsoleSink(PrintStream out) {
+        this(out, 1);
+    }
+
+    public ConsoleSink(PrintStream out, int every) {
+        if (every < 1) {
+            throw new IllegalArgumentException("every must be positive: " + every);
+        }
+
+        this.out = out;
+        this.every = every;
+    }
+
+    public void open(String source, String stepName, String[] columns) {
+        StringBuilder header = new StringBuilder(String.format("%-8s", stepName));
+
+        for (int j = 0; j < columns.length; j++) {
+            header.append(" | ");
+            header.append(j < columns.length - 1 ? String.format("%-8s", columns[j]) : columns[j]);
+        }
+
+        String line = "-".repeat(Math.max(30, header.length()));
+
+        out.println(line);
+        out.println(header);
+        out.println(line);
+    }
+
+    public void write(long step, double[] values) {
+        if (count++ % every != 0) {
+            return;
+        }
+
+        StringBuilder row = new StringBuilder(String.format("%-8d", step));
+
+        for (int j = 0; j < values.length; j++) {
+            row.append(" | ");
+            row.append(String.format(j < values.length - 1 ? "%-8.5f" : "%.5f", values[j]));
+        }
+
+        out.println(row);
+    }
+
+    public void flush() {
+        out.flush();
+    }
+
+    public void close() {
+        out.flush();
+    }
+
+}
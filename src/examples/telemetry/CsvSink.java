@@ -0,0 +1,53 @@
+package examples.telemetry;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes the records to a CSV file with a header line, one line per
+ * record: the step and then the values.
+ *
+ */
+public class CsvSink implements TelemetrySink {
+
+    private final Path file;
+    private BufferedWriter writer;
+
+    public CsvSink(Path file) {
+        this.file = file;
+    }
+
+    public void open(String source, String stepName, String[] columns) throws IOException {
+        writer = Files.newBufferedWriter(file);
+        writer.write(stepName);
+
+        for (String column : columns) {
+            writer.write(',');
+            writer.write(column);
+        }
+
+        writer.newLine();
+    }
+
+    public void write(long step, double[] values) throws IOException {
+        writer.write(Long.toString(step));
+
+        for (double value : values) {
+            writer.write(',');
+            writer.write(Double.toString(value));
+        }
+
+        writer.newLine();
+    }
+
+    public void flush() throws IOException {
+        writer.flush();
+    }
+
+    public void close() throws IOException {
+        writer.close();
+    }
+
+}
@@ -0,0 +1,227 @@
+package examples.telemetry;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the metrics of a loop (one record per iteration or generation)
+ * without slowing it down: record() only copies the values into a ring
+ * buffer, and a shared background thread drains the buffer to the sinks
+ * (CsvSink, BinarySink, ConsoleSink) every period. Formatting and I/O
+ * happen on that thread, except in flush() and close(), and in
+ * recordOrDrain() when the ring is full, which drain on the calling
+ * thread.
+ *
+ * record() never blocks nor allocates; when the loop outruns the sinks and
+ * the ring is full the record is dropped and counted. Loops that must not
+ * lose records use recordOrDrain() instead. A loop without
+ * telemetry just keeps a null reference, so disabled telemetry costs one
+ * null check per iteration.
+ *
+ * A Telemetry has one recording thread. Once close() has returned
+ * every record has reached the sinks, which are closed.
+ *
+ */
+public class Telemetry implements AutoCloseable {
+
+    private static final int DEFAULT_CAPACITY = 4096;
+    private static final long DEFAULT_PERIOD_MILLIS = 100;
+
+    private static ScheduledExecutorService drainer;
+
+    private final String source;
+    private final String[] columns;
+    private final List<TelemetrySink> sinks;
+    private final int mask;
+    private final long[] steps;
+    private final double[] ring;
+    // values of a record while the sinks write it
+    private final double[] values;
+    private final ScheduledFuture<?> task;
+
+    // records written by the recording thread and read by the drainer
+    private volatile long head;
+    private volatile long tail;
+    private volatile long dropped;
+    private boolean closed;
+
+    public Telemetry(String source, String stepName, String[] columns,
+            TelemetrySink... sinks) throws IOException {
+        this(source, stepName, columns, DEFAULT_CAPACITY, DEFAULT_PERIOD_MILLIS, sinks);
+    }
+
+    /**
+     * capacity (rounded up to a power of two) is the number of records the
+     * ring holds, periodMillis how often it is drained
+     *
+     */
+    public Telemetry(String source, String stepName, String[] columns, int capacity,
+            long periodMillis, TelemetrySink... sinks) throws IOException {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+
+        int size = Integer.highestOneBit(capacity);
+
+        if (size < capacity) {
+            size <<= 1;
+        }
+
+        this.source = source;
+        this.columns = columns.clone();
+        this.sinks = new ArrayList<>(List.of(sinks));
+        this.mask = size - 1;
+        this.steps = new long[size];
+        this.ring = new double[size * columns.length];
+        this.values = new double[columns.length];
+
+        for (TelemetrySink sink : sinks) {
+            sink.open(source, stepName, this.columns);
+        }
+
+        this.task = drainer().scheduleWithFixedDelay(this::drain, periodMillis,
+            periodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private static synchronized ScheduledExecutorService drainer() {
+        if (drainer == null) {
+            drainer = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "telemetry");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        return drainer;
+    }
+
+    public String getSource() {
+        return source;
+    }
+
+    public String[] getColumns() {
+        return columns.clone();
+    }
+
+    /**
+     * number of records dropped because the ring was full
+     */
+    public long getDropped() {
+        return dropped;
+    }
+
+    /**
+     * queues a record, values holding one value per column; produces false
+     * if the ring was full and the record was dropped
+     *
+     */
+    public boolean record(long step, double[] values) {
+        long h = head;
+
+        if (h - tail > mask) {
+            dropped++;
+            return false;
+        }
+
+        int slot = (int) (h & mask);
+        int width = columns.length;
+
+        steps[slot] = step;
+        System.arraycopy(values, 0, ring, slot * width, width);
+        // publishes the slot
+        head = h + 1;
+
+        return true;
+    }
+
+    /**
+     * like record(), but when the ring is full drains it on the calling
+     * thread first, so the record is never dropped
+     *
+     */
+    public void recordOrDrain(long step, double[] values) {
+        if (head - tail > mask) {
+            drain();
+        }
+
+        record(step, values);
+    }
+
+    /**
+     * writes the queued records to the sinks now, on the calling thread
+     */
+    public void flush() {
+        drain();
+    }
+
+    private synchronized void drain() {
+        long h = head;
+        long t = tail;
+        int width = columns.length;
+
+        if (t == h || sinks.isEmpty()) {
+            tail = h;
+            return;
+        }
+
+        for (; t < h; t++) {
+            int slot = (int) (t & mask);
+
+            System.arraycopy(ring, slot * width, values, 0, width);
+
+            for (int k = 0; k < sinks.size(); k++) {
+                try {
+                    sinks.get(k).write(steps[slot], values);
+                } catch (IOException e) {
+                    fail(k--, e);
+                }
+            }
+        }
+
+        // frees the slots
+        tail = t;
+
+        for (int k = 0; k < sinks.size(); k++) {
+            try {
+                sinks.get(k).flush();
+            } catch (IOException e) {
+                fail(k--, e);
+            }
+        }
+    }
+
+    /**
+     * drops a sink that failed, the others go on
+     */
+    private void fail(int k, IOException e) {
+        System.err.println("Error: telemetry of " + source + ": " + e);
+        sinks.remove(k);
+    }
+
+    /**
+     * drains the remaining records and closes the sinks
+     */
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+
+        closed = true;
+        task.cancel(false);
+        drain();
+
+        for (TelemetrySink sink : sinks) {
+            try {
+                sink.close();
+            } catch (IOException e) {
+                System.err.println("Error: telemetry of " + source + ": " + e);
+            }
+        }
+    }
+
+}
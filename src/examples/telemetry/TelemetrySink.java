@@ -0,0 +1,35 @@
+package examples.telemetry;
+
+import java.io.IOException;
+
+/**
+ * Destination of the records of a Telemetry. Its methods are called by
+ * one thread at a time, usually the background drain thread, never by the
+ * loop that records.
+ *
+ */
+public interface TelemetrySink {
+
+    /**
+     * called once, before the first record. source names the recording
+     * loop, stepName the step counter (e.g. "generation") and columns the
+     * values of every record
+     *
+     */
+    void open(String source, String stepName, String[] columns) throws IOException;
+
+    /**
+     * values holds one value per column; it is reused, so it must not be
+     * kept
+     *
+     */
+    void write(long step, double[] values) throws IOException;
+
+    /**
+     * called after every batch of records
+     */
+    void flush() throws IOException;
+
+    void close() throws IOException;
+
+}